@@ -0,0 +1,85 @@
+/*
+ * Creates precompressed variants (.br and .gz) of the static resources and webjars, which the
+ * webapp serves to clients accepting them (see SpringConfigWeb#addResourceHandlers).
+ *
+ * Runs after the resources are copied to ../target/classes and the webjars are unpacked to
+ * ../target/webjars (phase "prepare-package" of the maven profile "production").
+ */
+const fs = require('fs')
+const path = require('path')
+const zlib = require('zlib')
+
+const target = path.resolve(__dirname, '../target')
+
+// source directory and directory of its compressed variants
+const directories = [
+  [path.join(target, 'classes/static'), path.join(target, 'classes/static')],
+  [
+    path.join(target, 'webjars/META-INF/resources/webjars'),
+    path.join(target, 'classes/META-INF/resources/webjars'),
+  ],
+]
+
+// images and web fonts (png, woff2, ...) are compressed already
+const compressible = /\.(css|eot|html|js|json|map|mjs|otf|svg|ttf|txt)$/
+const minSize = 1024
+
+function* walk(directory) {
+  for (const entry of fs.readdirSync(directory, {withFileTypes: true})) {
+    const file = path.join(directory, entry.name)
+    if (entry.isDirectory()) {
+      yield* walk(file)
+    } else if (compressible.test(entry.name)) {
+      yield file
+    }
+  }
+}
+
+function write(file, compressed, original) {
+  // a variant that is not smaller would only cost the decompression
+  if (compressed.length < original.length) {
+    fs.mkdirSync(path.dirname(file), {recursive: true})
+    fs.writeFileSync(file, compressed)
+    return compressed.length
+  }
+  return original.length
+}
+
+let files = 0
+let size = 0
+let brotliSize = 0
+for (const [source, destination] of directories) {
+  if (!fs.existsSync(source)) {
+    console.warn(`Skipping missing ${source}`)
+    continue
+  }
+  for (const file of walk(source)) {
+    const content = fs.readFileSync(file)
+    if (content.length < minSize) {
+      continue
+    }
+    const compressedFile = path.join(destination, path.relative(source, file))
+    write(
+      `${compressedFile}.gz`,
+      zlib.gzipSync(content, {level: zlib.constants.Z_BEST_COMPRESSION}),
+      content,
+    )
+    brotliSize += write(
+      `${compressedFile}.br`,
+      zlib.brotliCompressSync(content, {
+        params: {
+          [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+          [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+        },
+      }),
+      content,
+    )
+    files++
+    size += content.length
+  }
+}
+console.log(
+  `Compressed ${files} files: ${Math.round(size / 1024)} KB, ${Math.round(
+    brotliSize / 1024,
+  )} KB with brotli`,
+)
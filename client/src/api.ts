@@ -460,34 +460,117 @@ export async function updateAttachedObjectsOrder(
   }
 }
 
-export async function uploadFile(
-  contextPath: string,
-  file: any,
-  updateProgress: (progress: number) => void,
-) {
-  return new Promise((resolve, reject) => {
+const UPLOAD_CHUNK_SIZE = 8 * 1024 * 1024
+const UPLOAD_RETRIES = 5
+const TUS_HEADERS = {'Tus-Resumable': '1.0.0'}
+
+const encodeUploadMetadata = (metadata: Record<string, string>): string =>
+  Object.entries(metadata)
+    .map(
+      ([key, value]) =>
+        `${key} ${btoa(
+          Array.from(new TextEncoder().encode(value), (byte) =>
+            String.fromCharCode(byte),
+          ).join(''),
+        )}`,
+    )
+    .join(',')
+
+const getUploadOffset = async (url: string): Promise<number> => {
+  const response = await fetch(url, {headers: TUS_HEADERS, method: 'HEAD'})
+  if (!response.ok) {
+    throw new Error(response.statusText)
+  }
+  return Number(response.headers.get('Upload-Offset'))
+}
+
+const uploadChunk = (
+  url: string,
+  chunk: Blob,
+  offset: number,
+  updateLoaded: (loaded: number) => void,
+): Promise<number> =>
+  new Promise((resolve, reject) => {
     const request = new XMLHttpRequest()
     for (let eventType of ['abort', 'error', 'timeout']) {
       request.addEventListener(eventType, () => reject(request.statusText))
     }
 
     request.addEventListener('load', () => {
-      resolve(JSON.parse(request.response))
+      if (request.status === 204) {
+        resolve(Number(request.getResponseHeader('Upload-Offset')))
+      } else {
+        reject(request.statusText)
+      }
     })
 
     request.upload.addEventListener('progress', (evt) => {
-      if (evt.lengthComputable) {
-        updateProgress(Math.round((evt.loaded / evt.total) * 100))
-      }
+      updateLoaded(evt.loaded)
     })
 
-    request.open(
-      'POST',
-      `${contextPath}api/${typeToEndpointMapping.file}`,
-      true,
-    )
-    const formData = new FormData()
-    formData.append('userfile', file, file.name)
-    request.send(formData)
+    request.open('PATCH', url, true)
+    request.setRequestHeader('Tus-Resumable', TUS_HEADERS['Tus-Resumable'])
+    request.setRequestHeader('Upload-Offset', String(offset))
+    request.setRequestHeader('Content-Type', 'application/offset+octet-stream')
+    request.send(chunk)
+  })
+
+/**
+ * Uploads the file in chunks, resuming at the offset reached on the server if
+ * a chunk fails (e.g. because the connection dropped).
+ */
+export async function uploadFile(
+  contextPath: string,
+  file: any,
+  updateProgress: (progress: number) => void,
+) {
+  const created = await fetch(`${contextPath}api/uploads`, {
+    headers: {
+      ...TUS_HEADERS,
+      'Upload-Length': String(file.size),
+      'Upload-Metadata': encodeUploadMetadata({
+        filename: file.name,
+        filetype: file.type || 'application/octet-stream',
+      }),
+    },
+    method: 'POST',
   })
+  if (!created.ok) {
+    throw new Error(created.statusText)
+  }
+  const url = new URL(
+    created.headers.get('Location') as string,
+    created.url,
+  ).toString()
+
+  let offset = 0
+  let retries = 0
+  while (offset < file.size) {
+    try {
+      offset = await uploadChunk(
+        url,
+        file.slice(offset, offset + UPLOAD_CHUNK_SIZE),
+        offset,
+        (loaded) =>
+          updateProgress(Math.round(((offset + loaded) / file.size) * 100)),
+      )
+      retries = 0
+    } catch (err) {
+      if (++retries > UPLOAD_RETRIES) {
+        throw err
+      }
+      await new Promise((resolve) => setTimeout(resolve, 1000 * retries))
+      try {
+        offset = await getUploadOffset(url)
+      } catch {
+        // still not reachable, try again with the current offset
+      }
+    }
+  }
+
+  const response = await fetch(`${url}/finalize`, {method: 'POST'})
+  if (!response.ok) {
+    throw new Error(response.statusText)
+  }
+  return response.json()
 }
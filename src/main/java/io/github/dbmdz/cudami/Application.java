@@ -3,12 +3,14 @@ package io.github.dbmdz.cudami;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /*
  * File uploads: As part of auto-configuring Spring MVC, Spring Boot will create a MultipartConfigElement
  * bean and make itself ready for file uploads.
  */
 @ConfigurationPropertiesScan
+@EnableScheduling
 @SpringBootApplication
 public class Application {
   public static void main(String[] args) {
@@ -0,0 +1,31 @@
+package io.github.dbmdz.cudami.actuator;
+
+import de.digitalcollections.model.exception.TechnicalException;
+import io.github.dbmdz.cudami.business.i18n.LanguageService;
+import io.github.dbmdz.cudami.business.i18n.LanguageService.LanguageSnapshot;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/** Shows and refreshes the languages and locales held by the {@link LanguageService}. */
+@Component
+@Endpoint(id = "languages")
+public class LanguagesActuatorEndpoint {
+
+  private final LanguageService languageService;
+
+  public LanguagesActuatorEndpoint(LanguageService languageService) {
+    this.languageService = languageService;
+  }
+
+  @ReadOperation
+  public LanguageSnapshot getLanguages() {
+    return languageService.getCurrentSnapshot();
+  }
+
+  @WriteOperation
+  public LanguageSnapshot refresh() throws TechnicalException {
+    return languageService.refresh();
+  }
+}
@@ -0,0 +1,176 @@
+package io.github.dbmdz.cudami.backend;
+
+import de.digitalcollections.model.exception.TechnicalException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Independent backend calls of one request, started concurrently and sharing one deadline. Use it
+ * with try-with-resources: leaving the block cancels all calls that are still running, e.g. when a
+ * required call has failed.
+ *
+ * <pre>{@code
+ * try (BackendCallScope calls = backendCalls.open()) {
+ *   Fork<Collection> collection = calls.fork("collection", () -> service.getByUuid(uuid));
+ *   Fork<List<Collection>> parents = calls.fork("parents", () -> service.getParents(uuid));
+ *   model.addAttribute("collection", collection.join());
+ *   model.addAttribute("parents", parents.joinOrElse(List.of()));
+ * }
+ * }</pre>
+ */
+public class BackendCallScope implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BackendCallScope.class);
+
+  /** A call of the cudami client. */
+  @FunctionalInterface
+  public interface BackendCall<T> {
+    T call() throws TechnicalException;
+  }
+
+  private final Executor executor;
+  private final long deadline;
+  private final List<FutureTask<?>> forks = new ArrayList<>();
+
+  BackendCallScope(Executor executor, long deadlineNanos) {
+    this.executor = executor;
+    this.deadline = deadlineNanos;
+  }
+
+  /**
+   * Start a call. It runs with the MDC of the calling thread, so that it is logged and sent to the
+   * backend with the request id of the request.
+   *
+   * @param name name of the call for error messages
+   * @param call the call
+   * @return handle to wait for the result of the call
+   */
+  public <T> Fork<T> fork(String name, BackendCall<T> call) {
+    Map<String, String> context = MDC.getCopyOfContextMap();
+    FutureTask<T> task =
+        new FutureTask<>(
+            () -> {
+              // the previous MDC of the thread, which is the calling thread if it runs the call
+              Map<String, String> previous = MDC.getCopyOfContextMap();
+              setContextMap(context);
+              try {
+                return call.call();
+              } finally {
+                setContextMap(previous);
+              }
+            });
+    forks.add(task);
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      // no thread available (e.g. during shutdown): run it here
+      task.run();
+    }
+    return new Fork<>(name, task);
+  }
+
+  /** Cancel all calls that have not finished yet. */
+  @Override
+  public void close() {
+    forks.forEach(task -> task.cancel(true));
+  }
+
+  private static void setContextMap(Map<String, String> context) {
+    if (context != null) {
+      MDC.setContextMap(context);
+    } else {
+      MDC.clear();
+    }
+  }
+
+  private long remainingNanos() {
+    return deadline - System.nanoTime();
+  }
+
+  /** A started call. */
+  public class Fork<T> {
+
+    private final String name;
+    private final FutureTask<T> task;
+
+    Fork(String name, FutureTask<T> task) {
+      this.name = name;
+      this.task = task;
+    }
+
+    /**
+     * @return true if the call has finished (or has been cancelled)
+     */
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    /**
+     * Wait for a required call.
+     *
+     * @return result of the call
+     * @throws TechnicalException if the call failed or did not finish before the deadline
+     */
+    public T join() throws TechnicalException {
+      try {
+        return await();
+      } catch (TimeoutException e) {
+        throw new TechnicalException("Backend call " + name + " did not finish within deadline", e);
+      }
+    }
+
+    /**
+     * Wait for an optional call: if it does not finish before the deadline, it is cancelled and the
+     * fallback is returned instead, so that the page can be rendered without it.
+     *
+     * @param fallback result if the call did not finish in time
+     * @return result of the call or fallback
+     * @throws TechnicalException if the call failed
+     */
+    public T joinOrElse(T fallback) throws TechnicalException {
+      try {
+        return await();
+      } catch (TimeoutException e) {
+        LOGGER.warn("Backend call {} did not finish within deadline, skipping it", name);
+        return fallback;
+      }
+    }
+
+    private T await() throws TechnicalException, TimeoutException {
+      try {
+        return task.get(remainingNanos(), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        task.cancel(true);
+        throw e;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TechnicalException("Interrupted while waiting for backend call " + name, e);
+      } catch (CancellationException e) {
+        throw new TechnicalException("Backend call " + name + " has been cancelled", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof TechnicalException) {
+          throw (TechnicalException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new TechnicalException("Backend call " + name + " failed", cause);
+      }
+    }
+  }
+}
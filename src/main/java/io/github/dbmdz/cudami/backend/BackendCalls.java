@@ -0,0 +1,77 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opens a {@link BackendCallScope} per request, so that independent backend calls (e.g. an object
+ * and its parents and breadcrumbs) run concurrently and a page takes as long as its slowest call
+ * instead of the sum of all calls.
+ */
+public class BackendCalls implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BackendCalls.class);
+
+  private final Executor executor;
+  private final Duration deadline;
+
+  /**
+   * @param executor executor to run the calls on, e.g. a bounded thread pool
+   * @param deadline time all calls of a scope must have finished within
+   */
+  public BackendCalls(Executor executor, Duration deadline) {
+    this.executor = executor;
+    this.deadline = deadline;
+  }
+
+  /**
+   * @param deadline time all calls of a scope must have finished within
+   * @return instance running every call directly in the calling thread when it is forked
+   */
+  public static BackendCalls sequential(Duration deadline) {
+    return new BackendCalls(Runnable::run, deadline);
+  }
+
+  /**
+   * @return executor starting a virtual thread per task, null if not supported by the JVM
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.debug("Virtual threads are not available: {}", e.toString());
+      return null;
+    }
+  }
+
+  public Duration getDeadline() {
+    return deadline;
+  }
+
+  /**
+   * @return new scope with the configured deadline
+   */
+  public BackendCallScope open() {
+    return open(deadline);
+  }
+
+  /**
+   * @param deadline time all calls of the scope must have finished within
+   * @return new scope
+   */
+  public BackendCallScope open(Duration deadline) {
+    return new BackendCallScope(executor, System.nanoTime() + deadline.toNanos());
+  }
+
+  @Override
+  public void close() {
+    if (executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+  }
+}
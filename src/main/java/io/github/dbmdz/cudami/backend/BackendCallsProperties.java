@@ -0,0 +1,67 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for independent backend calls of one request that run concurrently
+ * ("cudami.server.calls.*"), see {@link BackendCalls}.
+ */
+@ConfigurationProperties(prefix = "cudami.server.calls")
+public class BackendCallsProperties {
+
+  /** Run the calls concurrently; if disabled, they run one after another in the request thread. */
+  private boolean parallel = true;
+
+  /** Time all calls of one request (e.g. one page) must have answered within. */
+  private Duration deadline = Duration.ofSeconds(10);
+
+  /** Use virtual threads instead of the thread pool, if the JVM supports them. */
+  private boolean virtualThreads = true;
+
+  /** Size of the thread pool. */
+  private int threads = 32;
+
+  /** Calls waiting for a thread; beyond that, calls run in the request thread. */
+  private int queueCapacity = 64;
+
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  public Duration getDeadline() {
+    return deadline;
+  }
+
+  public void setDeadline(Duration deadline) {
+    this.deadline = deadline;
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public void setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Opens connections to the backend as soon as the application is ready, so that the first editors
+ * after a deployment do not pay for TCP/TLS handshakes and HTTP/2 negotiation.
+ */
+public class BackendConnectionWarmer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BackendConnectionWarmer.class);
+
+  private final HttpClient http;
+  private final URI warmupUri;
+  private final int connections;
+
+  public BackendConnectionWarmer(HttpClient http, String serverUrl, int connections, String path) {
+    this.http = http;
+    this.warmupUri = URI.create(serverUrl.replaceAll("/+$", "") + path);
+    this.connections = connections;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    warmUp();
+  }
+
+  public CompletableFuture<Void> warmUp() {
+    if (connections < 1) {
+      return CompletableFuture.completedFuture(null);
+    }
+    final long start = System.currentTimeMillis();
+    HttpRequest request = HttpRequest.newBuilder(warmupUri).GET().build();
+    CompletableFuture<?>[] requests =
+        IntStream.range(0, connections)
+            .mapToObj(i -> http.sendAsync(request, BodyHandlers.discarding()))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(requests)
+        .thenRun(
+            () -> {
+              HttpResponse<?> response = (HttpResponse<?>) requests[0].join();
+              LOGGER.info(
+                  "Warmed up {} backend connection(s) to {} using {} in {} ms",
+                  connections,
+                  warmupUri,
+                  response.version(),
+                  System.currentTimeMillis() - start);
+            })
+        .exceptionally(
+            ex -> {
+              LOGGER.warn(
+                  "Warm-up of backend connections to {} failed: {}", warmupUri, ex.getMessage());
+              return null;
+            });
+  }
+}
@@ -0,0 +1,203 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/** Transport settings for the connection(s) to the cudami backend ("cudami.server.http.*"). */
+@ConfigurationProperties(prefix = "cudami.server.http")
+public class BackendHttpProperties {
+
+  /**
+   * Preferred HTTP version. HTTP/2 is negotiated via ALPN for https and via h2c upgrade for plain
+   * http; the client falls back to HTTP/1.1 if the backend does not support it.
+   */
+  private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+  private Duration connectTimeout = Duration.ofSeconds(10);
+
+  /** Timeout applied to every backend request that does not define its own timeout. */
+  private Duration requestTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Idle time after which pooled HTTP/1.1 connections are closed (JDK default: 20 minutes). Only
+   * effective if set before the first client is created.
+   */
+  private Duration keepAliveTimeout;
+
+  /** Maximum number of pooled HTTP/1.1 connections, unlimited if not set. */
+  private Integer connectionPoolSize;
+
+  /** Let concurrent identical reads share one backend call, see {@link CoalescingHttpClient}. */
+  private boolean coalesceReads = true;
+
+  private final Executor executor = new Executor();
+  private final Warmup warmup = new Warmup();
+  private final EntityCache entityCache = new EntityCache();
+
+  public HttpClient.Version getVersion() {
+    return version;
+  }
+
+  public void setVersion(HttpClient.Version version) {
+    this.version = version;
+  }
+
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  public void setConnectTimeout(Duration connectTimeout) {
+    this.connectTimeout = connectTimeout;
+  }
+
+  public Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  public void setRequestTimeout(Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+  public Duration getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  public void setKeepAliveTimeout(Duration keepAliveTimeout) {
+    this.keepAliveTimeout = keepAliveTimeout;
+  }
+
+  public Integer getConnectionPoolSize() {
+    return connectionPoolSize;
+  }
+
+  public void setConnectionPoolSize(Integer connectionPoolSize) {
+    this.connectionPoolSize = connectionPoolSize;
+  }
+
+  public boolean isCoalesceReads() {
+    return coalesceReads;
+  }
+
+  public void setCoalesceReads(boolean coalesceReads) {
+    this.coalesceReads = coalesceReads;
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  public Warmup getWarmup() {
+    return warmup;
+  }
+
+  public EntityCache getEntityCache() {
+    return entityCache;
+  }
+
+  /** Sizing of the thread pool the HTTP client uses for its asynchronous work. */
+  public static class Executor {
+
+    private int coreSize = 4;
+    private int maxSize = 32;
+    private int queueCapacity = 256;
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    public int getCoreSize() {
+      return coreSize;
+    }
+
+    public void setCoreSize(int coreSize) {
+      this.coreSize = coreSize;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getKeepAlive() {
+      return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+      this.keepAlive = keepAlive;
+    }
+  }
+
+  /** Connections opened to the backend as soon as the application is ready. */
+  public static class Warmup {
+
+    private boolean enabled = true;
+    private int connections = 2;
+    private String path = "/v6/languages/default";
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getConnections() {
+      return connections;
+    }
+
+    public void setConnections(int connections) {
+      this.connections = connections;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public void setPath(String path) {
+      this.path = path;
+    }
+  }
+
+  /** Cache of objects fetched by uuid, see {@link EntityCachingHttpClient}. */
+  public static class EntityCache {
+
+    private boolean enabled = true;
+    private DataSize maxWeight = DataSize.ofMegabytes(64);
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public DataSize getMaxWeight() {
+      return maxWeight;
+    }
+
+    public void setMaxWeight(DataSize maxWeight) {
+      this.maxWeight = maxWeight;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+  }
+}
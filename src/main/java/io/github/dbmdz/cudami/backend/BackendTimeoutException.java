@@ -0,0 +1,11 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.io.IOException;
+
+/** Thrown if the backend does not accept or answer a request in time. */
+public class BackendTimeoutException extends IOException {
+
+  public BackendTimeoutException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
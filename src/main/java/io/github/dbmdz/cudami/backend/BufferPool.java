@@ -0,0 +1,62 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed number of reusable copy buffers. Since a streamed upload holds one buffer from start to
+ * end, the pool also limits the uploads running at the same time: further ones wait for a buffer,
+ * and are rejected if none is returned in time.
+ */
+public class BufferPool {
+
+  private final BlockingQueue<byte[]> buffers;
+  private final int bufferSize;
+  private final int capacity;
+
+  public BufferPool(int capacity, int bufferSize) {
+    this.buffers = new ArrayBlockingQueue<>(capacity);
+    this.bufferSize = bufferSize;
+    this.capacity = capacity;
+    for (int i = 0; i < capacity; i++) {
+      buffers.add(new byte[bufferSize]);
+    }
+  }
+
+  /**
+   * @param wait time to wait for a free buffer
+   * @return a buffer, to be given back by {@link #release}
+   * @throws RejectedExecutionException if no buffer was free in time
+   */
+  public byte[] acquire(Duration wait) {
+    byte[] buffer;
+    try {
+      buffer = buffers.poll(wait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for a buffer", e);
+    }
+    if (buffer == null) {
+      throw new RejectedExecutionException("No buffer free within " + wait);
+    }
+    return buffer;
+  }
+
+  public void release(byte[] buffer) {
+    if (buffer != null && buffer.length == bufferSize) {
+      buffers.offer(buffer);
+    }
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** Buffers in use, i.e. uploads running. */
+  public int getInUse() {
+    return capacity - buffers.size();
+  }
+}
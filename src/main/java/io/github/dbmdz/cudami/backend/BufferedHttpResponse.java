@@ -0,0 +1,131 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import javax.net.ssl.SSLSession;
+
+/**
+ * A backend response whose body has been read completely into memory. It can be handed out to any
+ * number of callers, each one getting the body converted by its own {@link BodyHandler}.
+ *
+ * @param <T> type of the body
+ */
+public class BufferedHttpResponse<T> implements HttpResponse<T> {
+
+  private final HttpRequest request;
+  private final int statusCode;
+  private final HttpHeaders headers;
+  private final T body;
+  private final Version version;
+
+  public BufferedHttpResponse(
+      HttpRequest request, int statusCode, HttpHeaders headers, T body, Version version) {
+    this.request = request;
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.body = body;
+    this.version = version;
+  }
+
+  /**
+   * Convert a buffered response into the body type requested by a caller.
+   *
+   * @param request the request of the caller
+   * @param response the buffered response
+   * @param bodyHandler the body handler of the caller
+   * @return a response as if it had been received for the caller's request
+   */
+  public static <T> HttpResponse<T> replay(
+      HttpRequest request, HttpResponse<byte[]> response, BodyHandler<T> bodyHandler) {
+    ResponseInfo responseInfo =
+        new ResponseInfo() {
+          @Override
+          public int statusCode() {
+            return response.statusCode();
+          }
+
+          @Override
+          public HttpHeaders headers() {
+            return response.headers();
+          }
+
+          @Override
+          public Version version() {
+            return response.version();
+          }
+        };
+    BodySubscriber<T> subscriber = bodyHandler.apply(responseInfo);
+    subscriber.onSubscribe(
+        new Flow.Subscription() {
+          @Override
+          public void request(long n) {}
+
+          @Override
+          public void cancel() {}
+        });
+    byte[] bytes = response.body();
+    if (bytes != null && bytes.length > 0) {
+      subscriber.onNext(List.of(ByteBuffer.wrap(bytes).asReadOnlyBuffer()));
+    }
+    subscriber.onComplete();
+    T body;
+    try {
+      body = subscriber.getBody().toCompletableFuture().join();
+    } catch (CompletionException e) {
+      throw new IllegalStateException("Cannot convert buffered response body", e.getCause());
+    }
+    return new BufferedHttpResponse<>(
+        request, response.statusCode(), response.headers(), body, response.version());
+  }
+
+  @Override
+  public int statusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public HttpRequest request() {
+    return request;
+  }
+
+  @Override
+  public Optional<HttpResponse<T>> previousResponse() {
+    return Optional.empty();
+  }
+
+  @Override
+  public HttpHeaders headers() {
+    return headers;
+  }
+
+  @Override
+  public T body() {
+    return body;
+  }
+
+  @Override
+  public Optional<SSLSession> sslSession() {
+    return Optional.empty();
+  }
+
+  @Override
+  public URI uri() {
+    return request.uri();
+  }
+
+  @Override
+  public Version version() {
+    return version;
+  }
+}
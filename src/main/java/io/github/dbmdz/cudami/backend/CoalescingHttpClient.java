@@ -0,0 +1,146 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets concurrent identical reads share one backend call ("single flight"): while a GET request is
+ * in flight, every further GET request for the same URI waits for its response instead of being
+ * sent to the backend again. The URI contains everything that makes up a read of the cudami client
+ * - endpoint, uuid and the serialized paging, sorting and filtering - so equal URIs mean equal
+ * requests. Nothing is kept once the response has arrived, and every write (any other method) ends
+ * the sharing of the reads sent before it, so a read sent after a write never gets the response of
+ * an older read: this adds no staleness.
+ *
+ * <p>If the request waited for is interrupted or cancelled, the waiting ones are sent again (one of
+ * them as the new shared call): that concerns the deadline or cancellation of another user's
+ * request only.
+ */
+public class CoalescingHttpClient extends ForwardingHttpClient {
+
+  private final Map<String, CompletableFuture<HttpResponse<byte[]>>> inFlight =
+      new ConcurrentHashMap<>();
+  private final AtomicLong coalescedRequests = new AtomicLong();
+  // part of the key of a read, incremented before and after every write
+  private final AtomicLong writes = new AtomicLong();
+
+  public CoalescingHttpClient(HttpClient delegate) {
+    super(delegate);
+  }
+
+  /**
+   * @return number of times a request has waited for the backend call of another request
+   */
+  public long getCoalescedRequests() {
+    return coalescedRequests.get();
+  }
+
+  @Override
+  public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler)
+      throws IOException, InterruptedException {
+    if (!"GET".equals(request.method())) {
+      writes.incrementAndGet();
+      try {
+        return delegate.send(request, responseBodyHandler);
+      } finally {
+        writes.incrementAndGet();
+      }
+    }
+
+    while (true) {
+      String key = getKey(request);
+      CompletableFuture<HttpResponse<byte[]>> call = new CompletableFuture<>();
+      CompletableFuture<HttpResponse<byte[]>> running = inFlight.putIfAbsent(key, call);
+      if (running != null) {
+        coalescedRequests.incrementAndGet();
+        HttpResponse<byte[]> response = await(running);
+        if (response != null) {
+          return BufferedHttpResponse.replay(request, response, responseBodyHandler);
+        }
+        // the original request has been interrupted or cancelled, not this one: try again
+        continue;
+      }
+
+      try {
+        HttpResponse<byte[]> response = delegate.send(request, BodyHandlers.ofByteArray());
+        call.complete(response);
+        return BufferedHttpResponse.replay(request, response, responseBodyHandler);
+      } catch (Throwable e) {
+        call.completeExceptionally(e);
+        throw e;
+      } finally {
+        inFlight.remove(key, call);
+      }
+    }
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request, BodyHandler<T> responseBodyHandler) {
+    if (!"GET".equals(request.method())) {
+      writes.incrementAndGet();
+      return delegate
+          .sendAsync(request, responseBodyHandler)
+          .whenComplete((response, e) -> writes.incrementAndGet());
+    }
+    return delegate.sendAsync(request, responseBodyHandler);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request,
+      BodyHandler<T> responseBodyHandler,
+      PushPromiseHandler<T> pushPromiseHandler) {
+    if (!"GET".equals(request.method())) {
+      writes.incrementAndGet();
+      return delegate
+          .sendAsync(request, responseBodyHandler, pushPromiseHandler)
+          .whenComplete((response, e) -> writes.incrementAndGet());
+    }
+    return delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+  }
+
+  private String getKey(HttpRequest request) {
+    return writes.get()
+        + " "
+        + request.headers().firstValue("Accept").orElse("")
+        + " "
+        + request.uri();
+  }
+
+  /**
+   * @return the response of the call or null, if the thread of the call has been interrupted or the
+   *     call has been cancelled (e.g. at the deadline of its {@link BackendCallScope})
+   */
+  private static HttpResponse<byte[]> await(CompletableFuture<HttpResponse<byte[]>> call)
+      throws IOException, InterruptedException {
+    try {
+      return call.get();
+    } catch (CancellationException e) {
+      return null;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof InterruptedException || cause instanceof CancellationException) {
+        return null;
+      }
+      if (cause instanceof IOException) {
+        throw new IOException(cause.getMessage(), cause);
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
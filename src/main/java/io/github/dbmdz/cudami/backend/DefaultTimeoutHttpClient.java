@@ -0,0 +1,52 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Applies a default timeout to all requests without an explicit one. The requests built by the
+ * cudami client never set a timeout, so without this a hanging backend blocks the calling thread
+ * forever.
+ */
+public class DefaultTimeoutHttpClient extends ForwardingHttpClient {
+
+  private final Duration requestTimeout;
+
+  public DefaultTimeoutHttpClient(HttpClient delegate, Duration requestTimeout) {
+    super(delegate);
+    this.requestTimeout = requestTimeout;
+  }
+
+  private HttpRequest withTimeout(HttpRequest request) {
+    if (requestTimeout == null || request.timeout().isPresent()) {
+      return request;
+    }
+    return HttpRequest.newBuilder(request, (name, value) -> true).timeout(requestTimeout).build();
+  }
+
+  @Override
+  public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler)
+      throws IOException, InterruptedException {
+    return delegate.send(withTimeout(request), responseBodyHandler);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request, BodyHandler<T> responseBodyHandler) {
+    return delegate.sendAsync(withTimeout(request), responseBodyHandler);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request,
+      BodyHandler<T> responseBodyHandler,
+      PushPromiseHandler<T> pushPromiseHandler) {
+    return delegate.sendAsync(withTimeout(request), responseBodyHandler, pushPromiseHandler);
+  }
+}
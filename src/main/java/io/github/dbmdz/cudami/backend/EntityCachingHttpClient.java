@@ -0,0 +1,157 @@
+package io.github.dbmdz.cudami.backend;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache for single objects fetched by uuid, i.e. {@code GET /v6/<type>/<uuid>} as
+ * issued by {@code CudamiRestClient.getByUuid}. Entries are weighed by the size of their JSON body.
+ *
+ * <p>Every other request with uuids in its path (all writes of the webapp, e.g. {@code PUT
+ * /v6/collections/<uuid>} or {@code DELETE /v6/collections/<uuid>/digitalobjects/<uuid>})
+ * invalidates the cached objects with these uuids - of every object type, since an object can be
+ * fetched through several endpoints (e.g. {@code /v6/identifiables/<uuid>}).
+ */
+public class EntityCachingHttpClient extends ForwardingHttpClient {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EntityCachingHttpClient.class);
+
+  private static final Pattern GET_BY_UUID_PATH =
+      Pattern.compile("^.*/v\\d+/([a-z]+)/([0-9a-fA-F]{8}-(?:[0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12})$");
+  private static final Pattern UUID_PATTERN =
+      Pattern.compile("[0-9a-fA-F]{8}-(?:[0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}");
+
+  /** Estimated memory used per entry besides the body (key, headers, wrapper objects). */
+  private static final int ENTRY_OVERHEAD = 512;
+
+  public record EntityKey(String objectType, UUID uuid) {}
+
+  private final Cache<EntityKey, HttpResponse<byte[]>> cache;
+  // incremented on every invalidation, so that reads started before a write are not cached
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public EntityCachingHttpClient(HttpClient delegate, long maxWeightInBytes, Duration ttl) {
+    super(delegate);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightInBytes)
+            .weigher(
+                (EntityKey key, HttpResponse<byte[]> response) ->
+                    ENTRY_OVERHEAD + response.body().length)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+  }
+
+  public Cache<EntityKey, HttpResponse<byte[]>> getCache() {
+    return cache;
+  }
+
+  /** Remove all cached objects with the given uuid, regardless of their type. */
+  public void invalidate(UUID uuid) {
+    invalidate(Set.of(uuid));
+  }
+
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  @Override
+  public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler)
+      throws IOException, InterruptedException {
+    EntityKey key = getCacheKey(request);
+    if (key == null) {
+      if (!"GET".equals(request.method())) {
+        invalidateUuidsOf(request.uri());
+        try {
+          return delegate.send(request, responseBodyHandler);
+        } finally {
+          // again, in case a concurrent read has cached the old state in the meantime
+          invalidateUuidsOf(request.uri());
+        }
+      }
+      return delegate.send(request, responseBodyHandler);
+    }
+
+    HttpResponse<byte[]> cached = cache.getIfPresent(key);
+    if (cached == null) {
+      long invalidationsBefore = invalidations.get();
+      HttpResponse<byte[]> response = delegate.send(request, BodyHandlers.ofByteArray());
+      if (response.statusCode() == 200
+          && response.body() != null
+          && invalidations.get() == invalidationsBefore) {
+        cache.put(key, response);
+      }
+      return BufferedHttpResponse.replay(request, response, responseBodyHandler);
+    } else {
+      LOGGER.debug("Serving {} from entity cache", request.uri());
+    }
+    return BufferedHttpResponse.replay(request, cached, responseBodyHandler);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request, BodyHandler<T> responseBodyHandler) {
+    if (!"GET".equals(request.method())) {
+      invalidateUuidsOf(request.uri());
+    }
+    return delegate.sendAsync(request, responseBodyHandler);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request,
+      BodyHandler<T> responseBodyHandler,
+      PushPromiseHandler<T> pushPromiseHandler) {
+    if (!"GET".equals(request.method())) {
+      invalidateUuidsOf(request.uri());
+    }
+    return delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+  }
+
+  private EntityKey getCacheKey(HttpRequest request) {
+    if (!"GET".equals(request.method()) || request.uri().getRawQuery() != null) {
+      return null;
+    }
+    Matcher matcher = GET_BY_UUID_PATH.matcher(request.uri().getPath());
+    if (!matcher.matches()) {
+      return null;
+    }
+    return new EntityKey(matcher.group(1), UUID.fromString(matcher.group(2)));
+  }
+
+  private void invalidateUuidsOf(URI uri) {
+    Set<UUID> uuids = new HashSet<>();
+    Matcher matcher = UUID_PATTERN.matcher(uri.getPath());
+    while (matcher.find()) {
+      uuids.add(UUID.fromString(matcher.group()));
+    }
+    if (!uuids.isEmpty()) {
+      invalidate(uuids);
+    }
+  }
+
+  private void invalidate(Set<UUID> uuids) {
+    invalidations.incrementAndGet();
+    cache.asMap().keySet().removeIf(key -> uuids.contains(key.uuid()));
+  }
+}
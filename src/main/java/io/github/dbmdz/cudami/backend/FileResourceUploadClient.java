@@ -0,0 +1,253 @@
+package io.github.dbmdz.cudami.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Streams uploaded binaries to the backend ({@code POST /v6/files}), in the same multipart format
+ * as {@code CudamiFileResourcesBinaryClient}, but
+ *
+ * <ul>
+ *   <li>with one shared, pooled http client instead of a new one per upload,
+ *   <li>copying through a buffer of a fixed {@link BufferPool}, so that memory and concurrency of
+ *       uploads are bounded - the binary is never held in memory as a whole, and if its length is
+ *       unknown, it is sent with chunked transfer encoding,
+ *   <li>recording duration, size and throughput of every upload.
+ * </ul>
+ */
+public class FileResourceUploadClient implements Closeable {
+
+  static final String DURATION_METRIC = "cudami.uploads.duration";
+  static final String SIZE_METRIC = "cudami.uploads.size";
+  static final String THROUGHPUT_METRIC = "cudami.uploads.throughput";
+
+  private final URI uploadUri;
+  private final ObjectMapper mapper;
+  private final BufferPool bufferPool;
+  private final Duration bufferWait;
+  private final CloseableHttpClient http;
+  private final MeterRegistry meterRegistry;
+
+  public FileResourceUploadClient(
+      String serverUrl,
+      ObjectMapper mapper,
+      UploadProperties properties,
+      MeterRegistry meterRegistry) {
+    this.uploadUri = URI.create(serverUrl + "/v6/files");
+    this.mapper = mapper;
+    this.bufferPool =
+        new BufferPool(properties.getBuffers(), (int) properties.getBufferSize().toBytes());
+    this.bufferWait = properties.getBufferWait();
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(properties.getBuffers());
+    connectionManager.setDefaultMaxPerRoute(properties.getBuffers());
+    this.http =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                    .setSocketTimeout((int) properties.getSocketTimeout().toMillis())
+                    .setConnectionRequestTimeout(
+                        (int) properties.getConnectionRequestTimeout().toMillis())
+                    .build())
+            .build();
+    this.meterRegistry = meterRegistry;
+  }
+
+  public BufferPool getBufferPool() {
+    return bufferPool;
+  }
+
+  /**
+   * @param stream binary, read until its end but not closed
+   * @param filename original name of the file
+   * @param contentType media type of the file
+   * @return the file resource created by the backend
+   * @throws IOException if reading the binary fails (e.g. because it is too large)
+   * @throws BackendTimeoutException if the backend does not accept or answer the upload in time
+   * @throws TechnicalException if the backend does not accept the binary
+   * @throws RejectedExecutionException if too many uploads are running
+   */
+  public FileResource upload(InputStream stream, String filename, String contentType)
+      throws IOException, TechnicalException {
+    return upload(stream, -1, filename, contentType);
+  }
+
+  /**
+   * Forward a file completely received before, e.g. a staged resumable upload. Its length is known,
+   * so it is sent with a content length instead of chunked.
+   *
+   * @param file the binary
+   * @param filename original name of the file
+   * @param contentType media type of the file
+   * @return the file resource created by the backend
+   * @throws IOException if reading the file fails
+   * @throws BackendTimeoutException if the backend does not accept or answer the upload in time
+   * @throws TechnicalException if the backend does not accept the binary
+   * @throws RejectedExecutionException if too many uploads are running
+   */
+  public FileResource upload(Path file, String filename, String contentType)
+      throws IOException, TechnicalException {
+    try (InputStream stream = Files.newInputStream(file)) {
+      return upload(stream, Files.size(file), filename, contentType);
+    }
+  }
+
+  private FileResource upload(InputStream stream, long length, String filename, String contentType)
+      throws IOException, TechnicalException {
+    byte[] buffer = bufferPool.acquire(bufferWait);
+    long start = System.nanoTime();
+    StreamingBody body =
+        new StreamingBody(
+            stream,
+            contentType != null ? ContentType.parse(contentType) : ContentType.DEFAULT_BINARY,
+            URLEncoder.encode(filename, StandardCharsets.UTF_8),
+            length,
+            buffer);
+    String outcome = "error";
+    try {
+      HttpPost post = new HttpPost(uploadUri);
+      post.setEntity(
+          MultipartEntityBuilder.create()
+              .addPart(contentType != null ? contentType : "file", body)
+              .build());
+      try (CloseableHttpResponse response = http.execute(post)) {
+        int status = response.getStatusLine().getStatusCode();
+        if (status != 200) {
+          EntityUtils.consumeQuietly(response.getEntity());
+          throw new TechnicalException("Backend answered upload with status " + status);
+        }
+        FileResource fileResource =
+            mapper.readValue(response.getEntity().getContent(), FileResource.class);
+        outcome = "success";
+        return fileResource;
+      }
+    } catch (ConnectionPoolTimeoutException e) {
+      throw new RejectedExecutionException("No connection to the backend free", e);
+    } catch (ConnectTimeoutException | SocketTimeoutException e) {
+      outcome = "timeout";
+      throw new BackendTimeoutException("Backend did not accept upload in time", e);
+    } finally {
+      bufferPool.release(buffer);
+      record(outcome, body.getBytesWritten(), System.nanoTime() - start);
+    }
+  }
+
+  private void record(String outcome, long bytes, long nanos) {
+    Timer.builder(DURATION_METRIC)
+        .description("Duration of uploads to the backend")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(nanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(SIZE_METRIC)
+        .description("Size of uploads to the backend")
+        .baseUnit("bytes")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(bytes);
+    if (nanos > 0 && bytes > 0) {
+      DistributionSummary.builder(THROUGHPUT_METRIC)
+          .description("Throughput of uploads to the backend")
+          .baseUnit("bytes/s")
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(bytes * 1e9 / nanos);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    http.close();
+  }
+
+  /** Binary part, copied through a pooled buffer. */
+  static class StreamingBody extends AbstractContentBody {
+
+    private final InputStream stream;
+    private final String filename;
+    private final long length;
+    private final byte[] buffer;
+    private long bytesWritten;
+
+    StreamingBody(
+        InputStream stream, ContentType contentType, String filename, long length, byte[] buffer) {
+      super(contentType);
+      this.stream = stream;
+      this.filename = filename;
+      this.length = length;
+      this.buffer = buffer;
+    }
+
+    @Override
+    public String getFilename() {
+      return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      int read;
+      while ((read = read()) != -1) {
+        out.write(buffer, 0, read);
+        bytesWritten += read;
+      }
+      out.flush();
+    }
+
+    private int read() throws IOException {
+      try {
+        return stream.read(buffer);
+      } catch (SocketTimeoutException e) {
+        // a timeout of the client of the webapp, not of the backend
+        throw new IOException("Reading the upload timed out", e);
+      }
+    }
+
+    @Override
+    public String getTransferEncoding() {
+      return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+      return length;
+    }
+
+    long getBytesWritten() {
+      return bytesWritten;
+    }
+  }
+}
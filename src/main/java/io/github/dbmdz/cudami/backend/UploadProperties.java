@@ -0,0 +1,172 @@
+package io.github.dbmdz.cudami.backend;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Uploads of binaries streamed through the webapp to the backend ("cudami.server.uploads.*"), see
+ * {@link FileResourceUploadClient}.
+ */
+@ConfigurationProperties(prefix = "cudami.server.uploads")
+public class UploadProperties {
+
+  /** Size of each copy buffer. */
+  private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+  /** Number of copy buffers, i.e. uploads streamed to the backend at the same time. */
+  private int buffers = 16;
+
+  /** Time an upload waits for a free buffer before it is rejected. */
+  private Duration bufferWait = Duration.ofSeconds(30);
+
+  /** Files of one multi-file upload request forwarded to the backend at the same time. */
+  private int parallelism = 4;
+
+  /** Maximum size of one uploaded file, negative for no limit. */
+  private DataSize maxFileSize = DataSize.ofGigabytes(20);
+
+  /** Maximum size of one upload request, negative for no limit. */
+  private DataSize maxRequestSize = DataSize.ofGigabytes(20);
+
+  /** Time to wait for a connection to the backend. */
+  private Duration connectTimeout = Duration.ofSeconds(10);
+
+  /** Time the backend may not accept or send any data of an upload before it is aborted. */
+  private Duration socketTimeout = Duration.ofMinutes(5);
+
+  /** Time an upload waits for a free connection of the pool before it is rejected. */
+  private Duration connectionRequestTimeout = Duration.ofSeconds(30);
+
+  private final Staging staging = new Staging();
+
+  public DataSize getBufferSize() {
+    return bufferSize;
+  }
+
+  public void setBufferSize(DataSize bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  public int getBuffers() {
+    return buffers;
+  }
+
+  public void setBuffers(int buffers) {
+    this.buffers = buffers;
+  }
+
+  public Duration getBufferWait() {
+    return bufferWait;
+  }
+
+  public void setBufferWait(Duration bufferWait) {
+    this.bufferWait = bufferWait;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public DataSize getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  public void setMaxFileSize(DataSize maxFileSize) {
+    this.maxFileSize = maxFileSize;
+  }
+
+  public DataSize getMaxRequestSize() {
+    return maxRequestSize;
+  }
+
+  public void setMaxRequestSize(DataSize maxRequestSize) {
+    this.maxRequestSize = maxRequestSize;
+  }
+
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  public void setConnectTimeout(Duration connectTimeout) {
+    this.connectTimeout = connectTimeout;
+  }
+
+  public Duration getSocketTimeout() {
+    return socketTimeout;
+  }
+
+  public void setSocketTimeout(Duration socketTimeout) {
+    this.socketTimeout = socketTimeout;
+  }
+
+  public Duration getConnectionRequestTimeout() {
+    return connectionRequestTimeout;
+  }
+
+  public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+    this.connectionRequestTimeout = connectionRequestTimeout;
+  }
+
+  public Staging getStaging() {
+    return staging;
+  }
+
+  /**
+   * Local disk staging of resumable uploads ("/api/uploads") and of the files of multi-file
+   * uploads, forwarded once complete.
+   */
+  public static class Staging {
+
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "cudami-uploads");
+
+    /** Time after the last received chunk until an unfinished upload is deleted. */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** Maximum number of uploads staged at the same time, negative for no limit. */
+    private int maxUploads = 100;
+
+    /**
+     * Maximum total size of the uploads staged at the same time, as announced by their clients,
+     * negative for no limit. Should not exceed the free space of the staging directory.
+     */
+    private DataSize maxSize = DataSize.ofGigabytes(100);
+
+    public Path getDirectory() {
+      return directory;
+    }
+
+    public void setDirectory(Path directory) {
+      this.directory = directory;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+
+    public int getMaxUploads() {
+      return maxUploads;
+    }
+
+    public void setMaxUploads(int maxUploads) {
+      this.maxUploads = maxUploads;
+    }
+
+    public DataSize getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+      this.maxSize = maxSize;
+    }
+  }
+}
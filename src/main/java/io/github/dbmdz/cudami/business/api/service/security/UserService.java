@@ -30,6 +30,12 @@ public interface UserService<U extends User> {
 
   U getByEmail(String email) throws ServiceException;
 
+  /**
+   * Like {@link #getByEmail(String)}, but answered from a short-lived cache (e.g. for
+   * authentication). The returned user is shared, so it must not be modified.
+   */
+  U getByEmailCached(String email) throws ServiceException;
+
   U getByUuid(UUID uuid) throws ServiceException;
 
   boolean setStatus(UUID uuid, boolean enabled);
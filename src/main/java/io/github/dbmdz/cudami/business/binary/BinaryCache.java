@@ -0,0 +1,251 @@
+package io.github.dbmdz.cudami.business.binary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local disk copies of proxied binaries, the least recently viewed ones are deleted first. A binary
+ * is copied in the background on its first view (which is proxied meanwhile), so that later views -
+ * e.g. seeking in a long recording - are served from disk.
+ *
+ * <p>Removed copies are deleted after a delay, since a copy may have been looked up to be sent just
+ * before: a file already opened can be read to its end after it is deleted, but the connector opens
+ * it only after the request is handled if it sends it with sendfile.
+ */
+public class BinaryCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BinaryCache.class);
+  private static final Duration DELETE_DELAY = Duration.ofMinutes(1);
+
+  private final Cache<String, Path> files;
+  private final Map<String, Boolean> copying = new ConcurrentHashMap<>();
+  private final Path directory;
+  private final long maxFileSize;
+  private final HttpClient http;
+  private final Duration requestTimeout;
+  private final ExecutorService executor;
+  private final Executor deleter =
+      CompletableFuture.delayedExecutor(DELETE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+  public BinaryCache(
+      BinaryProperties.Cache properties,
+      HttpClient http,
+      Duration requestTimeout,
+      ExecutorService executor)
+      throws IOException {
+    this.directory = Files.createDirectories(properties.getDirectory());
+    this.maxFileSize = properties.getMaxFileSize().toBytes();
+    this.http = http;
+    this.requestTimeout = requestTimeout;
+    this.executor = executor;
+    this.files =
+        Caffeine.newBuilder()
+            // weighed in KB, so that a weight fits into an int
+            .maximumWeight(properties.getMaxSize().toKilobytes())
+            .<String, Path>weigher((key, file) -> weightOf(file))
+            .expireAfterAccess(properties.getTtl())
+            .removalListener((key, file, cause) -> deleter.execute(() -> delete(file)))
+            .recordStats()
+            .build();
+    // copies of an earlier run are unknown to the cache
+    try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory)) {
+      stale.forEach(BinaryCache::delete);
+    }
+  }
+
+  public Cache<String, Path> getCache() {
+    return files;
+  }
+
+  /**
+   * @return the local copy of the binary, null if there is none (yet)
+   */
+  public Path get(String key) {
+    Path file = files.getIfPresent(key);
+    if (file != null && !Files.isReadable(file)) {
+      files.invalidate(key);
+      return null;
+    }
+    return file;
+  }
+
+  /**
+   * Copy the binary in the background, unless it is copied already, too large or of unknown size.
+   * The copy is aborted as soon as the backend sends more than the announced size.
+   *
+   * @param key identifies the binary and its version
+   * @param uri where to get it from
+   * @param size announced size of the binary, 0 if unknown
+   */
+  public void copyInBackground(String key, URI uri, long size) {
+    if (size <= 0 || size > maxFileSize || files.getIfPresent(key) != null) {
+      return;
+    }
+    if (copying.putIfAbsent(key, Boolean.TRUE) != null) {
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              copy(key, uri, size);
+            } finally {
+              copying.remove(key);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // busy, the next view tries again
+      copying.remove(key);
+    }
+  }
+
+  private void copy(String key, URI uri, long size) {
+    // a unique name, so that removing an older copy of the same key never hits this one
+    Path file = directory.resolve(UUID.randomUUID().toString());
+    Path part = directory.resolve(file.getFileName() + ".part");
+    try {
+      HttpResponse<Path> response =
+          http.send(
+              HttpRequest.newBuilder(uri).timeout(requestTimeout).GET().build(),
+              ofFile(part, size));
+      if (response.statusCode() != 200) {
+        LOGGER.warn("Cannot cache binary {}: status {}", uri, response.statusCode());
+        delete(part);
+        return;
+      }
+      if (response.body() == null) {
+        LOGGER.warn("Cannot cache binary {}: larger than {} bytes", uri, size);
+        delete(part);
+        return;
+      }
+      Files.move(part, file, StandardCopyOption.ATOMIC_MOVE);
+      files.put(key, file);
+    } catch (IOException e) {
+      LOGGER.warn("Cannot cache binary {}: {}", uri, e.getMessage());
+      delete(part);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      delete(part);
+    }
+  }
+
+  /**
+   * @return handler writing a body of at most the given size to the file; a body of another status
+   *     than 200 or announced to be larger is not written, its body is null
+   */
+  private static BodyHandler<Path> ofFile(Path file, long maxSize) {
+    return responseInfo -> {
+      if (responseInfo.statusCode() != 200) {
+        return BodySubscribers.replacing(null);
+      }
+      if (responseInfo.headers().firstValueAsLong("Content-Length").orElse(0) > maxSize) {
+        // not even read
+        return new LimitedBodySubscriber<>(BodySubscribers.replacing(null), 0);
+      }
+      return new LimitedBodySubscriber<>(BodySubscribers.ofFile(file), maxSize);
+    };
+  }
+
+  /** Fails (and cancels the body) as soon as more than the given number of bytes are received. */
+  private static class LimitedBodySubscriber<T> implements BodySubscriber<T> {
+
+    private final BodySubscriber<T> delegate;
+    private final long maxSize;
+    private Flow.Subscription subscription;
+    private long received;
+    private boolean failed;
+
+    LimitedBodySubscriber(BodySubscriber<T> delegate, long maxSize) {
+      this.delegate = delegate;
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      delegate.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> item) {
+      if (failed) {
+        return;
+      }
+      for (ByteBuffer buffer : item) {
+        received += buffer.remaining();
+      }
+      if (received > maxSize) {
+        failed = true;
+        subscription.cancel();
+        delegate.onError(new IOException("Body larger than " + maxSize + " bytes"));
+        return;
+      }
+      delegate.onNext(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      if (!failed) {
+        delegate.onError(throwable);
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      if (!failed) {
+        delegate.onComplete();
+      }
+    }
+  }
+
+  private static int weightOf(Path file) {
+    try {
+      return (int) Math.min(Integer.MAX_VALUE, Files.size(file) / 1024 + 1);
+    } catch (IOException e) {
+      return 1;
+    }
+  }
+
+  private static void delete(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.warn("Cannot delete cached binary {}: {}", file, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.dbmdz.cudami.business.binary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Delivery of the binaries of file resources for preview and download
+ * ("cudami.fileresources.binaries.*").
+ */
+@ConfigurationProperties(prefix = "cudami.fileresources.binaries")
+public class BinaryProperties {
+
+  /**
+   * Read binaries with a "file:" uri directly, for a webapp sharing the file system of the
+   * backend's file storage. Binaries with a http(s) uri are always proxied.
+   */
+  private boolean localFiles = false;
+
+  private Duration connectTimeout = Duration.ofSeconds(10);
+
+  /** Time to wait for the response to a request of a proxied binary, until its headers arrive. */
+  private Duration requestTimeout = Duration.ofSeconds(30);
+
+  private final Cache cache = new Cache();
+
+  public boolean isLocalFiles() {
+    return localFiles;
+  }
+
+  public void setLocalFiles(boolean localFiles) {
+    this.localFiles = localFiles;
+  }
+
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  public void setConnectTimeout(Duration connectTimeout) {
+    this.connectTimeout = connectTimeout;
+  }
+
+  public Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  public void setRequestTimeout(Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+  public Cache getCache() {
+    return cache;
+  }
+
+  /** Local disk copies of recently viewed proxied binaries, see {@link BinaryCache}. */
+  public static class Cache {
+
+    private boolean enabled = false;
+
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "cudami-binaries");
+
+    /** Total size of the cached binaries, the least recently viewed ones are deleted first. */
+    private DataSize maxSize = DataSize.ofGigabytes(10);
+
+    /** Binaries larger than this are always proxied. */
+    private DataSize maxFileSize = DataSize.ofGigabytes(2);
+
+    /** Time after the last view until a binary is deleted. */
+    private Duration ttl = Duration.ofHours(24);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+      return directory;
+    }
+
+    public void setDirectory(Path directory) {
+      this.directory = directory;
+    }
+
+    public DataSize getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public DataSize getMaxFileSize() {
+      return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+      this.maxFileSize = maxFileSize;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+  }
+}
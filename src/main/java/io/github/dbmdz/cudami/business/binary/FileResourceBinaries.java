@@ -0,0 +1,142 @@
+package io.github.dbmdz.cudami.business.binary;
+
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access to the binaries of file resources: read directly if they are local files, from the {@link
+ * BinaryCache} if they were viewed recently, or else proxied from their http(s) uri.
+ */
+@Component
+public class FileResourceBinaries implements DisposableBean {
+
+  private final boolean localFiles;
+  private final HttpClient http;
+  private final Duration requestTimeout;
+  private final ExecutorService cacheExecutor;
+  private final BinaryCache cache;
+
+  public FileResourceBinaries(
+      BinaryProperties properties, ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+    this.localFiles = properties.isLocalFiles();
+    this.http =
+        HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(properties.getConnectTimeout())
+            .build();
+    this.requestTimeout = properties.getRequestTimeout();
+    if (properties.getCache().isEnabled()) {
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              2,
+              2,
+              60,
+              TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(64),
+              new CustomizableThreadFactory("cudami-binaries-"),
+              // copying is optional, drop it if too many are waiting
+              new ThreadPoolExecutor.AbortPolicy());
+      executor.allowCoreThreadTimeOut(true);
+      this.cacheExecutor = executor;
+      this.cache = new BinaryCache(properties.getCache(), http, requestTimeout, executor);
+      meterRegistry.ifAvailable(
+          registry ->
+              CaffeineCacheMetrics.monitor(
+                  registry, cache.getCache(), "cudami.fileresources.binaries"));
+    } else {
+      this.cacheExecutor = null;
+      this.cache = null;
+    }
+  }
+
+  /**
+   * @param fileResource a file resource
+   * @return the binary as local file, null if it has to be proxied
+   */
+  public Path getLocalFile(FileResource fileResource) {
+    URI uri = fileResource.getUri();
+    if (uri == null) {
+      return null;
+    }
+    if ("file".equals(uri.getScheme())) {
+      if (!localFiles) {
+        return null;
+      }
+      Path file = Path.of(uri);
+      return Files.isReadable(file) ? file : null;
+    }
+    return cache != null ? cache.get(cacheKey(fileResource)) : null;
+  }
+
+  /**
+   * @return if the binary can be proxied, i.e. has a http(s) uri
+   */
+  public boolean isProxied(FileResource fileResource) {
+    URI uri = fileResource.getUri();
+    return uri != null && ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()));
+  }
+
+  /**
+   * Request the binary from its http(s) uri, and copy it into the cache in the background.
+   *
+   * @param fileResource a file resource with a http(s) uri
+   * @param range value of the "Range" header, null to get all of it
+   * @param headOnly to request the headers only
+   * @return the response, its body has to be closed
+   */
+  public HttpResponse<InputStream> open(FileResource fileResource, String range, boolean headOnly)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(fileResource.getUri()).timeout(requestTimeout);
+    if (range != null) {
+      request.header("Range", range);
+    }
+    request.method(headOnly ? "HEAD" : "GET", HttpRequest.BodyPublishers.noBody());
+    HttpResponse<InputStream> response =
+        http.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    if (cache != null && !headOnly) {
+      cache.copyInBackground(
+          cacheKey(fileResource), fileResource.getUri(), fileResource.getSizeInBytes());
+    }
+    return response;
+  }
+
+  /** The version of the binary is part of the key, a changed binary is copied again. */
+  private static String cacheKey(FileResource fileResource) {
+    long lastModified =
+        fileResource.getLastModified() != null
+            ? fileResource
+                .getLastModified()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli()
+            : 0;
+    return fileResource.getUuid() + "-" + lastModified + "-" + fileResource.getSizeInBytes();
+  }
+
+  @Override
+  public void destroy() {
+    if (cacheExecutor != null) {
+      cacheExecutor.shutdownNow();
+    }
+  }
+}
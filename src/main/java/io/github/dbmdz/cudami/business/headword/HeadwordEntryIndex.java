@@ -0,0 +1,137 @@
+package io.github.dbmdz.cudami.business.headword;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.entity.CudamiHeadwordEntriesClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.entity.HeadwordEntry;
+import de.digitalcollections.model.list.paging.PageRequest;
+import de.digitalcollections.model.list.paging.PageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Uuid of the headword of headword entries, so that redirecting to the headword of an entry does
+ * not load the complete entry. Filled on demand, from the headword entries listed by the webapp and
+ * - if "cudami.headwordentries.headword-cache.preload" is set - by paging through all headword
+ * entries in the background after startup.
+ */
+@Component
+public class HeadwordEntryIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HeadwordEntryIndex.class);
+
+  private static final int PRELOAD_PAGE_SIZE = 1000;
+
+  private final CudamiHeadwordEntriesClient headwordEntriesClient;
+  private final Cache<UUID, UUID> headwordByEntry;
+  private final long maxSize;
+  private final boolean preload;
+
+  public HeadwordEntryIndex(
+      CudamiClient client,
+      @Value("${cudami.headwordentries.headword-cache.max-size:500000}") long maxSize,
+      @Value("${cudami.headwordentries.headword-cache.ttl:PT24H}") Duration ttl,
+      @Value("${cudami.headwordentries.headword-cache.preload:false}") boolean preload,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.headwordEntriesClient = client.forHeadwordEntries();
+    this.headwordByEntry =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    this.maxSize = maxSize;
+    this.preload = preload;
+    meterRegistry.ifAvailable(
+        registry ->
+            CaffeineCacheMetrics.monitor(
+                registry, headwordByEntry, "cudami.headwordentries.headwords"));
+  }
+
+  /**
+   * @param headwordEntryUuid uuid of a headword entry
+   * @return uuid of the headword of the entry, null if the entry does not exist or has no headword
+   * @throws TechnicalException if the entry can not be loaded from the backend
+   */
+  public UUID getHeadwordUuid(UUID headwordEntryUuid) throws TechnicalException {
+    UUID headwordUuid = headwordByEntry.getIfPresent(headwordEntryUuid);
+    if (headwordUuid == null) {
+      HeadwordEntry headwordEntry = headwordEntriesClient.getByUuid(headwordEntryUuid);
+      if (headwordEntry == null) {
+        return null;
+      }
+      put(headwordEntry);
+      headwordUuid = headwordByEntry.getIfPresent(headwordEntryUuid);
+    }
+    return headwordUuid;
+  }
+
+  /** Remember the headword of a loaded or saved headword entry. */
+  public void put(HeadwordEntry headwordEntry) {
+    if (headwordEntry == null || headwordEntry.getUuid() == null) {
+      return;
+    }
+    if (headwordEntry.getHeadword() == null || headwordEntry.getHeadword().getUuid() == null) {
+      headwordByEntry.invalidate(headwordEntry.getUuid());
+      return;
+    }
+    headwordByEntry.put(headwordEntry.getUuid(), headwordEntry.getHeadword().getUuid());
+  }
+
+  public void putAll(Collection<HeadwordEntry> headwordEntries) {
+    if (headwordEntries != null) {
+      headwordEntries.forEach(this::put);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (preload) {
+      Thread thread = new Thread(this::preloadInBackground, "headword-entries-preload");
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  /**
+   * Page through the headword entries of the backend, until all or as many as fit into the cache
+   * are known.
+   *
+   * @return number of headword entries read
+   * @throws TechnicalException if the backend can not be reached
+   */
+  public long preload() throws TechnicalException {
+    long count = 0;
+    PageRequest pageRequest =
+        PageRequest.builder().pageSize(PRELOAD_PAGE_SIZE).pageNumber(0).build();
+    PageResponse<HeadwordEntry> pageResponse;
+    do {
+      pageResponse = headwordEntriesClient.find(pageRequest);
+      putAll(pageResponse.getContent());
+      count += pageResponse.getContent().size();
+      pageRequest = pageResponse.nextPageRequest();
+    } while (pageResponse.hasNext() && count < maxSize);
+    return count;
+  }
+
+  private void preloadInBackground() {
+    try {
+      long start = System.currentTimeMillis();
+      long count = preload();
+      LOGGER.info(
+          "Preloaded headwords of {} headword entries in {} ms",
+          count,
+          System.currentTimeMillis() - start);
+    } catch (TechnicalException | RuntimeException e) {
+      LOGGER.warn("Cannot preload headwords of headword entries: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.dbmdz.cudami.business.i18n;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Precomputed order of languages for one display locale: the prioritised languages first (in their
+ * configured order), then all other languages alphabetically by their name in the display locale.
+ *
+ * <p>The names of all known languages are collated once when the order is built, so that sorting
+ * only compares integer ranks. Languages that were not known at that time are ranked next to the
+ * known languages by a binary search of their collation key.
+ */
+public class LanguageOrder {
+
+  private final Locale displayLocale;
+  private final Function<Locale, String> displayName;
+  private final Collator collator;
+  // exact locale -> negative rank, so that prioritised languages come first
+  private final Map<Locale, Integer> prioritisedRanks = new HashMap<>();
+  // language code -> even, positive rank (2 * (1 + position of its name in sortedNames))
+  private final Map<String, Integer> languageRanks = new HashMap<>();
+  // distinct collated names of all known languages
+  private final CollationKey[] sortedNames;
+
+  /**
+   * @param prioritisedLanguages languages to put first, in this order
+   * @param knownLanguages language codes to precompute the rank of
+   * @param displayLocale locale to sort the language names in
+   * @param displayName name of a language in the display locale
+   */
+  LanguageOrder(
+      List<Locale> prioritisedLanguages,
+      Collection<String> knownLanguages,
+      Locale displayLocale,
+      Function<Locale, String> displayName) {
+    this.displayLocale = displayLocale;
+    this.displayName = displayName;
+    this.collator = Collator.getInstance(displayLocale);
+
+    for (int i = 0; i < prioritisedLanguages.size(); i++) {
+      prioritisedRanks.putIfAbsent(prioritisedLanguages.get(i), i - prioritisedLanguages.size());
+    }
+
+    Map<String, CollationKey> names = new HashMap<>();
+    for (String language : knownLanguages) {
+      names.put(language, getCollationKey(new Locale(language)));
+    }
+    CollationKey[] sorted = names.values().toArray(new CollationKey[0]);
+    Arrays.sort(sorted);
+    // languages with the same name share one position
+    int distinct = 0;
+    for (CollationKey name : sorted) {
+      if (distinct == 0 || sorted[distinct - 1].compareTo(name) != 0) {
+        sorted[distinct++] = name;
+      }
+    }
+    this.sortedNames = Arrays.copyOf(sorted, distinct);
+    names.forEach(
+        (language, name) ->
+            languageRanks.put(language, 2 * (1 + Arrays.binarySearch(sortedNames, name))));
+  }
+
+  public Locale getDisplayLocale() {
+    return displayLocale;
+  }
+
+  /**
+   * @param languages languages to sort, may contain duplicates
+   * @return new list of the distinct given languages in this order, languages of equal rank keep
+   *     their given order
+   */
+  public List<Locale> sort(Collection<Locale> languages) {
+    Locale[] distinct = new LinkedHashSet<>(languages).toArray(new Locale[0]);
+    // rank in the upper, position in the lower half: sorting is stable without any comparator
+    long[] keys = new long[distinct.length];
+    for (int i = 0; i < distinct.length; i++) {
+      keys[i] = ((long) getRank(distinct[i]) << 32) | i;
+    }
+    Arrays.sort(keys);
+    List<Locale> sorted = new ArrayList<>(distinct.length);
+    for (long key : keys) {
+      sorted.add(distinct[(int) key]);
+    }
+    return sorted;
+  }
+
+  int getRank(Locale locale) {
+    Integer rank = prioritisedRanks.get(locale);
+    if (rank == null) {
+      rank = languageRanks.get(locale.getLanguage());
+    }
+    if (rank == null) {
+      // unknown language: odd rank between the known languages next to its name
+      int position = Arrays.binarySearch(sortedNames, getCollationKey(locale));
+      rank = position >= 0 ? 2 * (1 + position) : 2 * (-position - 1) + 1;
+    }
+    return rank;
+  }
+
+  private CollationKey getCollationKey(Locale locale) {
+    return collator.getCollationKey(Objects.requireNonNullElse(displayName.apply(locale), ""));
+  }
+}
@@ -4,25 +4,45 @@ import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.CudamiLocalesClient;
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.text.LocalizedText;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+/**
+ * Languages and locales of the backend. They are held in an immutable snapshot, which is loaded on
+ * first use and refreshed in the background ("cudami.languages.refresh-interval"), so that the many
+ * lookups per page (e.g. for the data language) do not hit the backend. If a refresh fails, the
+ * last snapshot is kept.
+ */
 @Service
 public class LanguageService {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(LanguageService.class);
+
   private final CudamiLocalesClient localeService;
   private final MessageSource messageSource;
   private final List<Locale> prioritisedSortedLanguages;
 
+  private volatile LanguageSnapshot snapshot;
+  // built on first use per display locale, reset with every refresh of the snapshot
+  private final Map<Locale, LanguageOrder> languageOrders = new ConcurrentHashMap<>();
+
   public LanguageService(
       CudamiClient client,
       @Value("${cudami.prioritisedSortedLanguages}") List<Locale> prioritisedSortedLanguages,
@@ -32,8 +52,87 @@ public class LanguageService {
     this.prioritisedSortedLanguages = List.copyOf(prioritisedSortedLanguages);
   }
 
+  /**
+   * Immutable state of the backend's languages and locales.
+   *
+   * @param defaultLanguage default language of the backend
+   * @param defaultLocale default locale of the backend
+   * @param allLanguages all languages as strings
+   * @param allLanguagesAsLocales all languages as locales (unsorted)
+   * @param allLocales all locales
+   * @param loaded time of loading
+   */
+  public record LanguageSnapshot(
+      Locale defaultLanguage,
+      String defaultLocale,
+      List<String> allLanguages,
+      List<Locale> allLanguagesAsLocales,
+      List<Locale> allLocales,
+      Instant loaded) {}
+
+  private LanguageSnapshot getSnapshot() throws TechnicalException {
+    LanguageSnapshot current = snapshot;
+    if (current == null) {
+      synchronized (this) {
+        current = snapshot;
+        if (current == null) {
+          current = refresh();
+        }
+      }
+    }
+    return current;
+  }
+
+  private LanguageSnapshot loadSnapshot() throws TechnicalException {
+    return new LanguageSnapshot(
+        localeService.getDefaultLanguage(),
+        localeService.getDefaultLocale(),
+        immutableList(localeService.getAllLanguages()),
+        immutableList(localeService.getAllLanguagesAsLocales()),
+        immutableList(localeService.getAllLocales()),
+        Instant.now());
+  }
+
+  private static <T> List<T> immutableList(List<T> list) {
+    return list == null ? List.of() : List.copyOf(list);
+  }
+
+  /**
+   * Reload languages and locales from the backend.
+   *
+   * @return the new snapshot
+   * @throws TechnicalException if the backend can not be reached
+   */
+  public LanguageSnapshot refresh() throws TechnicalException {
+    LanguageSnapshot loaded = loadSnapshot();
+    snapshot = loaded;
+    languageOrders.clear();
+    return loaded;
+  }
+
+  @Scheduled(
+      initialDelayString = "${cudami.languages.refresh-interval:PT10M}",
+      fixedDelayString = "${cudami.languages.refresh-interval:PT10M}")
+  public void refreshInBackground() {
+    try {
+      refresh();
+    } catch (TechnicalException | RuntimeException e) {
+      LOGGER.warn(
+          "Cannot refresh languages from backend, keeping snapshot of {}: {}",
+          snapshot != null ? snapshot.loaded() : null,
+          e.getMessage());
+    }
+  }
+
+  /**
+   * @return the current snapshot, null if not loaded yet
+   */
+  public LanguageSnapshot getCurrentSnapshot() {
+    return snapshot;
+  }
+
   public List<Locale> getAllLanguages() throws TechnicalException {
-    List<Locale> allLanguagesAsLocales = localeService.getAllLanguagesAsLocales();
+    List<Locale> allLanguagesAsLocales = getSnapshot().allLanguagesAsLocales();
     final Locale displayLocale = LocaleContextHolder.getLocale();
     List<Locale> sortedLanguages = sortLanguages(displayLocale, allLanguagesAsLocales);
     return sortedLanguages;
@@ -45,19 +144,19 @@ public class LanguageService {
   }
 
   public List<String> getAllLanguagesAsString() throws TechnicalException {
-    return localeService.getAllLanguages();
+    return getSnapshot().allLanguages();
   }
 
   public List<Locale> getAllLocales() throws TechnicalException {
-    return localeService.getAllLocales();
+    return getSnapshot().allLocales();
   }
 
   public Locale getDefaultLanguage() throws TechnicalException {
-    return localeService.getDefaultLanguage();
+    return getSnapshot().defaultLanguage();
   }
 
   public String getDefaultLocale() throws TechnicalException {
-    return localeService.getDefaultLocale();
+    return getSnapshot().defaultLocale();
   }
 
   public List<Locale> getExistingLanguages(Locale defaultLanguage, LocalizedText localizedText) {
@@ -96,16 +195,37 @@ public class LanguageService {
     return localizedLanguageString;
   }
 
+  /**
+   * @param displayLocale locale to sort the language names in
+   * @return the (cached) order of languages for the given display locale
+   */
+  public LanguageOrder getLanguageOrder(Locale displayLocale) {
+    return languageOrders.computeIfAbsent(displayLocale, this::createLanguageOrder);
+  }
+
+  private LanguageOrder createLanguageOrder(Locale displayLocale) {
+    Set<String> knownLanguages = new HashSet<>(Arrays.asList(Locale.getISOLanguages()));
+    Arrays.stream(Locale.getAvailableLocales()).forEach(l -> knownLanguages.add(l.getLanguage()));
+    knownLanguages.add("und");
+    LanguageSnapshot current = snapshot;
+    if (current != null) {
+      current.allLanguagesAsLocales().forEach(l -> knownLanguages.add(l.getLanguage()));
+    }
+    return new LanguageOrder(
+        prioritisedSortedLanguages,
+        knownLanguages,
+        displayLocale,
+        l -> getLocalizedLanguageString(l, displayLocale));
+  }
+
+  /**
+   * Sort languages by their name in the display locale, with the prioritised languages first.
+   *
+   * @param displayLocale locale to sort the language names in
+   * @param languagesToSort languages to sort, may contain duplicates
+   * @return new list of the distinct sorted languages
+   */
   public List<Locale> sortLanguages(Locale displayLocale, Collection<Locale> languagesToSort) {
-    List<Locale> sortedLanguages =
-        prioritisedSortedLanguages.stream()
-            .filter(languagesToSort::contains)
-            .collect(Collectors.toList());
-    languagesToSort.stream()
-        .filter(l -> !prioritisedSortedLanguages.contains(l))
-        .sorted(Comparator.comparing(l -> getLocalizedLanguageString(l, displayLocale)))
-        .distinct()
-        .forEach(sortedLanguages::add);
-    return sortedLanguages;
+    return getLanguageOrder(displayLocale).sort(languagesToSort);
   }
 }
@@ -0,0 +1,129 @@
+package io.github.dbmdz.cudami.business.identifier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.digitalcollections.model.identifiable.Identifiable;
+import de.digitalcollections.model.identifiable.IdentifiableObjectType;
+import de.digitalcollections.model.identifiable.Identifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Uuid and object type of identifiables by their identifiers and uuids, i.e. all that is needed to
+ * redirect to the page of an identifiable. Filled from the identifiables the webapp loads anyway
+ * (e.g. search results), so that following a link by identifier or uuid does not fetch the whole
+ * object again.
+ *
+ * <p>The controllers saving or updating identifiables invalidate their entries (see {@link
+ * #invalidate(UUID, Identifiable)}). Entries also expire after
+ * "cudami.identifiables.resolution-cache.ttl", since an identifier may be moved to another object
+ * in the backend by other clients. The uuid and type of an object never change.
+ */
+@Component
+public class IdentifiableResolutionCache {
+
+  /** What an identifier or uuid resolves to. */
+  public record Resolution(UUID uuid, IdentifiableObjectType type) {}
+
+  private final Cache<String, Resolution> byIdentifier;
+  private final Cache<UUID, IdentifiableObjectType> byUuid;
+
+  public IdentifiableResolutionCache(
+      @Value("${cudami.identifiables.resolution-cache.max-size:100000}") long maxSize,
+      @Value("${cudami.identifiables.resolution-cache.ttl:PT1H}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.byIdentifier =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    this.byUuid =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    meterRegistry.ifAvailable(
+        registry -> {
+          CaffeineCacheMetrics.monitor(
+              registry, byIdentifier, "cudami.identifiables.resolution.identifiers");
+          CaffeineCacheMetrics.monitor(registry, byUuid, "cudami.identifiables.resolution.uuids");
+        });
+  }
+
+  /**
+   * @param namespace namespace of the identifier
+   * @param id id of the identifier
+   * @return the cached resolution, null if unknown
+   */
+  public Resolution getByIdentifier(String namespace, String id) {
+    return byIdentifier.getIfPresent(key(namespace, id));
+  }
+
+  /**
+   * @param uuid uuid of an identifiable
+   * @return the cached resolution, null if unknown
+   */
+  public Resolution getByUuid(UUID uuid) {
+    IdentifiableObjectType type = byUuid.getIfPresent(uuid);
+    return type != null ? new Resolution(uuid, type) : null;
+  }
+
+  /** Remember uuid, type and identifiers of a loaded identifiable. */
+  public void put(Identifiable identifiable) {
+    if (identifiable == null
+        || identifiable.getUuid() == null
+        || identifiable.getIdentifiableObjectType() == null) {
+      return;
+    }
+    Resolution resolution =
+        new Resolution(identifiable.getUuid(), identifiable.getIdentifiableObjectType());
+    byUuid.put(resolution.uuid(), resolution.type());
+    if (identifiable.getIdentifiers() != null) {
+      for (Identifier identifier : identifiable.getIdentifiers()) {
+        if (identifier.getNamespace() != null && identifier.getId() != null) {
+          byIdentifier.put(key(identifier.getNamespace(), identifier.getId()), resolution);
+        }
+      }
+    }
+  }
+
+  public void putAll(Collection<? extends Identifiable> identifiables) {
+    if (identifiables != null) {
+      identifiables.forEach(this::put);
+    }
+  }
+
+  /**
+   * Forget what the uuid and the identifiers of a changed identifiable resolved to: the identifiers
+   * the identifiable had before and the identifiers it has now, which may have belonged to a
+   * deleted object.
+   *
+   * @param uuid uuid of the changed identifiable, may be null for a new one
+   * @param changed the identifiable as saved, may be null
+   */
+  public void invalidate(UUID uuid, Identifiable changed) {
+    Set<UUID> uuids = new HashSet<>();
+    if (uuid != null) {
+      uuids.add(uuid);
+    }
+    if (changed != null && changed.getUuid() != null) {
+      uuids.add(changed.getUuid());
+    }
+    byUuid.invalidateAll(uuids);
+    if (!uuids.isEmpty()) {
+      // the old identifiers are not known anymore, they are found by what they resolve to
+      byIdentifier.asMap().values().removeIf(resolution -> uuids.contains(resolution.uuid()));
+    }
+    if (changed != null && changed.getIdentifiers() != null) {
+      for (Identifier identifier : changed.getIdentifiers()) {
+        byIdentifier.invalidate(key(identifier.getNamespace(), identifier.getId()));
+      }
+    }
+  }
+
+  private static String key(String namespace, String id) {
+    return namespace + ':' + id;
+  }
+}
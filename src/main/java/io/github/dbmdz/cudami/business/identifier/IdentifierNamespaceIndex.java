@@ -0,0 +1,124 @@
+package io.github.dbmdz.cudami.business.identifier;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.CudamiIdentifierTypesClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.IdentifierType;
+import de.digitalcollections.model.list.paging.PageRequest;
+import de.digitalcollections.model.list.paging.PageResponse;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Case-insensitive index of the namespaces of all identifier types, e.g. to detect identifiers in
+ * the quick search. It is loaded on first use, refreshed in the background
+ * ("cudami.identifiertypes.refresh-interval") and reloaded on next use after {@link #invalidate()},
+ * which is to be called whenever an identifier type is saved.
+ */
+@Service
+public class IdentifierNamespaceIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IdentifierNamespaceIndex.class);
+
+  private static final int PAGE_SIZE = 1000;
+
+  private final CudamiIdentifierTypesClient identifierTypesClient;
+
+  // lower case namespace -> namespace, null if not loaded or invalidated
+  private volatile Map<String, String> namespaces;
+  // incremented on every invalidation, so that namespaces loaded before are not kept
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public IdentifierNamespaceIndex(CudamiClient client) {
+    this.identifierTypesClient = client.forIdentifierTypes();
+  }
+
+  /**
+   * @param candidate possible namespace in any case
+   * @return the namespace as defined by its identifier type, null if there is none
+   * @throws TechnicalException if the identifier types can not be loaded
+   */
+  public String getNamespace(String candidate) throws TechnicalException {
+    if (candidate == null) {
+      return null;
+    }
+    return getNamespaces().get(candidate.toLowerCase(Locale.ROOT));
+  }
+
+  /** Discard the index, it is reloaded on next use. */
+  public void invalidate() {
+    invalidations.incrementAndGet();
+    namespaces = null;
+  }
+
+  /**
+   * Reload the identifier types from the backend.
+   *
+   * @throws TechnicalException if the backend can not be reached
+   */
+  public void refresh() throws TechnicalException {
+    long invalidationsBefore = invalidations.get();
+    store(load(), invalidationsBefore);
+  }
+
+  /**
+   * Keeps loaded namespaces, unless the index has been invalidated since the load started: then
+   * they may be older than the change and are reloaded on next use. An invalidation right after the
+   * check discards them anyway, as it resets the index after incrementing the counter.
+   */
+  private void store(Map<String, String> loaded, long invalidationsBefore) {
+    namespaces = loaded;
+    if (invalidations.get() != invalidationsBefore) {
+      namespaces = null;
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${cudami.identifiertypes.refresh-interval:PT10M}",
+      fixedDelayString = "${cudami.identifiertypes.refresh-interval:PT10M}")
+  public void refreshInBackground() {
+    try {
+      refresh();
+    } catch (TechnicalException | RuntimeException e) {
+      LOGGER.warn("Cannot refresh identifier types from backend: {}", e.getMessage());
+    }
+  }
+
+  private Map<String, String> getNamespaces() throws TechnicalException {
+    Map<String, String> current = namespaces;
+    if (current == null) {
+      synchronized (this) {
+        current = namespaces;
+        if (current == null) {
+          long invalidationsBefore = invalidations.get();
+          current = load();
+          store(current, invalidationsBefore);
+        }
+      }
+    }
+    return current;
+  }
+
+  private Map<String, String> load() throws TechnicalException {
+    Map<String, String> loaded = new HashMap<>();
+    PageRequest pageRequest = PageRequest.builder().pageSize(PAGE_SIZE).pageNumber(0).build();
+    PageResponse<IdentifierType> pageResponse;
+    do {
+      pageResponse = identifierTypesClient.find(pageRequest);
+      for (IdentifierType identifierType : pageResponse.getContent()) {
+        String namespace = identifierType.getNamespace();
+        if (namespace != null) {
+          loaded.putIfAbsent(namespace.toLowerCase(Locale.ROOT), namespace);
+        }
+      }
+      pageRequest = pageResponse.nextPageRequest();
+    } while (pageResponse.hasNext());
+    return Map.copyOf(loaded);
+  }
+}
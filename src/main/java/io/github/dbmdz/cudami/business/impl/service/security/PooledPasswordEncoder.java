@@ -0,0 +1,122 @@
+package io.github.dbmdz.cudami.business.impl.service.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt password encoder, that hashes and verifies passwords on a bounded pool of threads instead
+ * of the calling servlet threads. If all threads are busy and the queue is full, or a password
+ * waits longer than the maximum wait, an {@link AuthenticationServiceException} is thrown at once,
+ * so that a burst of logins can not occupy all servlet threads with hashing.
+ *
+ * <p>A password that waited too long is given up, but its hash may have started already: BCrypt
+ * does not react to interruption, so {@code future.cancel(true)} only removes a waiting task from
+ * the queue and a running hash still occupies its thread until it is done. The rejected passwords
+ * therefore under-report the work the pool is still busy with.
+ *
+ * <p>Hashes with another cost factor than the configured one are reported by {@link
+ * #upgradeEncoding}, so that they are replaced at the next login.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abyx]?\\$(\\d\\d)\\$");
+
+  private final BCryptPasswordEncoder delegate;
+  private final int strength;
+  private final ThreadPoolExecutor executor;
+  private final long maxWaitNanos;
+  private final AtomicLong rejected = new AtomicLong();
+
+  public PooledPasswordEncoder(int strength, int threads, int queueCapacity, Duration maxWait) {
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.strength = strength;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("cudami-bcrypt-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+    this.maxWaitNanos = maxWait.toNanos();
+  }
+
+  public ThreadPoolExecutor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Passwords not checked because of a full queue or a timeout. Hashes given up by the timeout may
+   * still be running, see the class comment.
+   */
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejected.incrementAndGet();
+      throw new AuthenticationServiceException("Too many passwords waiting to be checked", e);
+    }
+    try {
+      return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      rejected.incrementAndGet();
+      future.cancel(true);
+      throw new AuthenticationServiceException("Password not checked in time", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new AuthenticationServiceException("Interrupted while checking password", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -7,14 +7,16 @@ import io.github.dbmdz.cudami.business.api.service.security.UserService;
 import io.github.dbmdz.cudami.model.security.AuthenticatedUser;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BeanPropertyBindingResult;
 
 @Service
 @Transactional
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
   private static final org.slf4j.Logger LOGGER =
       LoggerFactory.getLogger(UserDetailsServiceImpl.class);
@@ -29,7 +31,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
   @Override
   public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
     try {
-      User user = userService.getByEmail(usernameOrEmail);
+      User user = userService.getByEmailCached(usernameOrEmail);
       if (user == null) {
         throw new UsernameNotFoundException("user does not exist");
       } else {
@@ -40,4 +42,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
       return null;
     }
   }
+
+  /** Store the hash of a user's password, rehashed at login with the configured cost factor. */
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+    try {
+      User user = userService.getByEmail(userDetails.getUsername());
+      if (user == null) {
+        return userDetails;
+      }
+      user.setPasswordHash(newPasswordHash);
+      User updatedUser =
+          userService.update(user, null, null, new BeanPropertyBindingResult(user, "user"));
+      return new AuthenticatedUser(updatedUser);
+    } catch (ServiceException ex) {
+      // the login succeeds anyway, the hash is replaced at the next one
+      LOGGER.warn("Can not update password hash of user " + userDetails.getUsername(), ex);
+      return userDetails;
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package io.github.dbmdz.cudami.business.impl.service.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.security.CudamiUsersClient;
 import de.digitalcollections.model.exception.TechnicalException;
@@ -11,16 +13,20 @@ import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.api.service.security.UserService;
 import io.github.dbmdz.cudami.business.impl.validator.PasswordsValidatorParams;
 import io.github.dbmdz.cudami.business.impl.validator.UniqueUsernameValidator;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -35,16 +41,28 @@ public class UserServiceImpl implements UserService<User>, InitializingBean {
 
   private final CudamiUsersClient client;
   private final MessageSource messageSource;
+  private final PasswordEncoder passwordEncoder;
   private final Validator passwordsValidator;
   private Validator uniqueUsernameValidator;
+  // users by email for authentication: changes made through this webapp are visible at once,
+  // changes made elsewhere (e.g. disabling a user) after ttl at the latest
+  private final Cache<String, User> usersByEmail;
+  // once an active admin exists, it only ceases to exist by changes to users
+  private volatile boolean activeAdminUserExists;
+  private final AtomicLong userChanges = new AtomicLong();
 
   public UserServiceImpl(
       @Qualifier("passwordsValidator") Validator passwordsValidator,
       CudamiClient client,
-      MessageSource messageSource) {
+      MessageSource messageSource,
+      PasswordEncoder passwordEncoder,
+      @Value("${cudami.security.user-cache.ttl:PT30S}") Duration userCacheTtl) {
     this.passwordsValidator = passwordsValidator;
     this.client = client.forUsers();
     this.messageSource = messageSource;
+    this.passwordEncoder = passwordEncoder;
+    this.usersByEmail =
+        Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(userCacheTtl).build();
   }
 
   @Override
@@ -97,9 +115,23 @@ public class UserServiceImpl implements UserService<User>, InitializingBean {
 
   @Override
   public boolean doesActiveAdminUserExist() throws ServiceException {
+    if (activeAdminUserExists) {
+      return true;
+    }
     try {
+      // no users at all (fresh installation) needs no query for the admins
+      if (client.count() == 0) {
+        return false;
+      }
+      LOGGER.info("checking if admin user exists...");
+      long changesBefore = userChanges.get();
       List<User> findActiveAdminUsers = client.getActiveAdminUsers();
-      return findActiveAdminUsers != null && !findActiveAdminUsers.isEmpty();
+      boolean exists = findActiveAdminUsers != null && !findActiveAdminUsers.isEmpty();
+      // a user changed meanwhile might have been the admin found
+      if (exists && changesBefore == userChanges.get()) {
+        activeAdminUserExists = true;
+      }
+      return exists;
     } catch (TechnicalException ex) {
       throw new ServiceException(ex.getMessage(), ex);
     }
@@ -123,6 +155,18 @@ public class UserServiceImpl implements UserService<User>, InitializingBean {
     }
   }
 
+  @Override
+  public User getByEmailCached(String email) throws ServiceException {
+    User user = usersByEmail.getIfPresent(email);
+    if (user == null) {
+      user = getByEmail(email);
+      if (user != null) {
+        usersByEmail.put(email, user);
+      }
+    }
+    return user;
+  }
+
   @Override
   public User getByUuid(UUID uuid) throws ServiceException {
     try {
@@ -143,18 +187,32 @@ public class UserServiceImpl implements UserService<User>, InitializingBean {
     }
     if (!results.hasErrors()) {
       if (StringUtils.hasText(password)) {
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-        String passwordHash = passwordEncoder.encode(password);
+        String passwordHash;
+        try {
+          passwordHash = passwordEncoder.encode(password);
+        } catch (AuthenticationServiceException e) {
+          // too many passwords waiting to be hashed, see PooledPasswordEncoder
+          LOGGER.warn("Cannot hash password of user {}: {}", user.getEmail(), e.getMessage());
+          String code = "error.password_hashing_busy";
+          results.reject(
+              code, messageSource.getMessage(code, null, LocaleContextHolder.getLocale()));
+          return user;
+        }
         user.setPasswordHash(passwordHash);
       }
+      UUID uuid = user.getUuid();
       try {
         if (isUpdate) {
-          user = client.update(user.getUuid(), user);
+          user = client.update(uuid, user);
         } else {
           user = client.save(user);
         }
       } catch (TechnicalException ex) {
         throw new ServiceException(ex.getMessage(), ex);
+      } finally {
+        if (isUpdate) {
+          invalidateCachedUser(uuid);
+        }
       }
     }
     return user;
@@ -169,6 +227,20 @@ public class UserServiceImpl implements UserService<User>, InitializingBean {
       return true;
     } catch (TechnicalException ex) {
       return false;
+    } finally {
+      invalidateCachedUser(uuid);
+    }
+  }
+
+  /**
+   * Remove a user from the cache, by uuid since the email might have been changed. The user might
+   * have been the last active admin, so check for admins again.
+   */
+  private void invalidateCachedUser(UUID uuid) {
+    userChanges.incrementAndGet();
+    activeAdminUserExists = false;
+    if (uuid != null) {
+      usersByEmail.asMap().values().removeIf(cached -> uuid.equals(cached.getUuid()));
     }
   }
 
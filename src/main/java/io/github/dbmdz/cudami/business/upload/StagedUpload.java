@@ -0,0 +1,92 @@
+package io.github.dbmdz.cudami.business.upload;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.UUID;
+
+/** A resumable upload, whose chunks received so far are staged in a local file. */
+public class StagedUpload {
+
+  private final UUID id;
+  private final String filename;
+  private final String contentType;
+  private final long length;
+  private final Path file;
+  private volatile long offset;
+  private volatile Instant lastModified;
+  private MessageDigest digest = UploadDigestIndex.newDigest();
+  private String completedDigest;
+
+  StagedUpload(UUID id, String filename, String contentType, long length, Path file) {
+    this.id = id;
+    this.filename = filename;
+    this.contentType = contentType;
+    this.length = length;
+    this.file = file;
+    this.lastModified = Instant.now();
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public String getFilename() {
+    return filename;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  /** Announced size of the complete file. */
+  public long getLength() {
+    return length;
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  /** Bytes received so far, i.e. the position the next chunk has to start at. */
+  public long getOffset() {
+    return offset;
+  }
+
+  void setOffset(long offset) {
+    this.offset = offset;
+    this.lastModified = Instant.now();
+  }
+
+  public Instant getLastModified() {
+    return lastModified;
+  }
+
+  public boolean isComplete() {
+    return offset == length;
+  }
+
+  /**
+   * @return hex SHA-256 digest of the complete file, null if it is incomplete or the digest got
+   *     lost by a failed write
+   */
+  public synchronized String getDigest() {
+    if (!isComplete() || digest == null) {
+      return null;
+    }
+    if (completedDigest == null) {
+      completedDigest = UploadDigestIndex.toHex(digest);
+    }
+    return completedDigest;
+  }
+
+  synchronized void updateDigest(byte[] bytes, int length) {
+    if (digest != null) {
+      digest.update(bytes, 0, length);
+    }
+  }
+
+  synchronized void discardDigest() {
+    digest = null;
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.dbmdz.cudami.business.upload;
+
+import java.io.IOException;
+
+/** Thrown if an upload can not be staged because the staging limits are reached. */
+public class StagingFullException extends IOException {
+
+  public StagingFullException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.dbmdz.cudami.business.upload;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.resource.CudamiFileResourcesMetadataClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * File resources created by uploads, by the SHA-256 digest of their binary. The digest is computed
+ * while an upload is read, so that an upload staged before it is forwarded (resumable and
+ * multi-file uploads) can be answered with the file resource of an identical binary uploaded
+ * before, instead of sending the bytes to the backend again.
+ *
+ * <p>A file resource is checked to still exist in the backend before it is handed out again.
+ */
+@Component
+public class UploadDigestIndex {
+
+  private static final String ALGORITHM = "SHA-256";
+
+  private final Cache<String, UUID> fileResources;
+  private final CudamiFileResourcesMetadataClient client;
+  private final boolean enabled;
+
+  public UploadDigestIndex(
+      CudamiClient client,
+      @Value("${cudami.server.uploads.digests.enabled:true}") boolean enabled,
+      @Value("${cudami.server.uploads.digests.max-size:100000}") long maxSize,
+      @Value("${cudami.server.uploads.digests.ttl:PT24H}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.client = client.forFileResourcesMetadata();
+    this.enabled = enabled;
+    this.fileResources =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    meterRegistry.ifAvailable(
+        registry ->
+            CaffeineCacheMetrics.monitor(registry, fileResources, "cudami.uploads.digests"));
+  }
+
+  /**
+   * @return a new digest of the algorithm of this index
+   */
+  public static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform has to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return the completed digest as hex string
+   */
+  public static String toHex(MessageDigest digest) {
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * @param digest hex SHA-256 digest of a binary
+   * @return the file resource of an identical binary, null if unknown
+   * @throws TechnicalException if the backend can not be reached
+   */
+  public FileResource get(String digest) throws TechnicalException {
+    if (!enabled || digest == null) {
+      return null;
+    }
+    UUID uuid = fileResources.getIfPresent(digest);
+    if (uuid == null) {
+      return null;
+    }
+    FileResource fileResource = client.getByUuid(uuid);
+    if (fileResource == null) {
+      // deleted in the meantime
+      fileResources.invalidate(digest);
+    }
+    return fileResource;
+  }
+
+  /** Remember the file resource created by an upload with this digest. */
+  public void put(String digest, FileResource fileResource) {
+    if (enabled && digest != null && fileResource != null && fileResource.getUuid() != null) {
+      fileResources.put(digest, fileResource.getUuid());
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package io.github.dbmdz.cudami.business.upload;
+
+import io.github.dbmdz.cudami.backend.UploadProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stages the chunks of resumable uploads in local files, until the upload is complete and forwarded
+ * to the backend. A chunk is written at the offset the upload has reached, so an upload interrupted
+ * by a dropped connection continues where it stopped instead of starting again.
+ *
+ * <p>The number and total size of staged uploads are limited, by the lengths their clients
+ * announce, so that the staging directory does not run out of space.
+ *
+ * <p>The state of the uploads is kept in memory: after a restart, unfinished uploads have to start
+ * again, their files are deleted by the sweeper.
+ */
+@Component
+public class UploadStaging {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(UploadStaging.class);
+  private static final String SUFFIX = ".part";
+
+  private final Map<UUID, StagedUpload> uploads = new ConcurrentHashMap<>();
+  // announced length of every upload with a staging file, including uploads taken to be forwarded
+  private final Map<UUID, Long> reserved = new ConcurrentHashMap<>();
+  private final Path directory;
+  private final Duration ttl;
+  private final int bufferSize;
+  private final int maxUploads;
+  private final long maxSize;
+
+  public UploadStaging(UploadProperties properties) {
+    this.directory = properties.getStaging().getDirectory();
+    this.ttl = properties.getStaging().getTtl();
+    this.bufferSize = (int) properties.getBufferSize().toBytes();
+    this.maxUploads = properties.getStaging().getMaxUploads();
+    this.maxSize = properties.getStaging().getMaxSize().toBytes();
+  }
+
+  /**
+   * @param filename original name of the file
+   * @param contentType media type of the file
+   * @param length size of the complete file
+   * @return the new upload, expecting its first chunk at offset 0
+   * @throws StagingFullException if the maximum number or total size of staged uploads is reached
+   * @throws IOException if the staging file can not be created
+   */
+  public StagedUpload create(String filename, String contentType, long length) throws IOException {
+    UUID id = UUID.randomUUID();
+    reserve(id, length);
+    Path file;
+    try {
+      Files.createDirectories(directory);
+      file = Files.createFile(directory.resolve(id + SUFFIX));
+    } catch (IOException e) {
+      reserved.remove(id);
+      throw e;
+    }
+    StagedUpload upload = new StagedUpload(id, filename, contentType, length, file);
+    uploads.put(id, upload);
+    return upload;
+  }
+
+  /**
+   * @return the upload or {@code null} if it is unknown, finished or expired
+   */
+  public StagedUpload get(UUID id) {
+    return uploads.get(id);
+  }
+
+  /**
+   * Write the next chunk of an upload. Everything received is kept, even if the chunk ends early
+   * because the connection dropped.
+   *
+   * @param upload the upload
+   * @param offset position of the chunk, must be the current offset of the upload
+   * @param chunk the bytes of the chunk
+   * @return the new offset of the upload
+   * @throws IllegalStateException if the offset does not match (e.g. a chunk was sent twice)
+   * @throws IllegalArgumentException if the chunk exceeds the announced length of the upload
+   * @throws IOException if reading the chunk or writing the staging file fails
+   */
+  public long append(StagedUpload upload, long offset, InputStream chunk) throws IOException {
+    synchronized (upload) {
+      if (offset != upload.getOffset()) {
+        throw new IllegalStateException(
+            "Upload " + upload.getId() + " is at offset " + upload.getOffset() + ", not " + offset);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+      long position = offset;
+      try (FileChannel channel = FileChannel.open(upload.getFile(), StandardOpenOption.WRITE)) {
+        int read;
+        while ((read = chunk.read(buffer.array())) != -1) {
+          if (position + read > upload.getLength()) {
+            throw new IllegalArgumentException(
+                "Chunk exceeds the length of upload " + upload.getId());
+          }
+          buffer.limit(read);
+          try {
+            while (buffer.hasRemaining()) {
+              position += channel.write(buffer, position);
+            }
+          } catch (IOException e) {
+            // the file does not match the bytes digested anymore
+            upload.discardDigest();
+            throw e;
+          }
+          // digested while written, so the complete file needs no second pass
+          upload.updateDigest(buffer.array(), read);
+          buffer.clear();
+        }
+      } finally {
+        upload.setOffset(position);
+      }
+      return position;
+    }
+  }
+
+  /**
+   * Take a complete upload to forward it, so that it is not forwarded twice. Call {@link #finish}
+   * once it is forwarded, or {@link #release} to allow another try.
+   *
+   * @return the upload or {@code null} if it is unknown, incomplete or already taken
+   */
+  public StagedUpload take(UUID id) {
+    StagedUpload upload = uploads.get(id);
+    if (upload == null || !upload.isComplete() || !uploads.remove(id, upload)) {
+      return null;
+    }
+    return upload;
+  }
+
+  public void release(StagedUpload upload) {
+    uploads.put(upload.getId(), upload);
+  }
+
+  /** Delete the upload and its staging file. */
+  public void finish(StagedUpload upload) {
+    uploads.remove(upload.getId(), upload);
+    delete(upload.getFile());
+    reserved.remove(upload.getId());
+  }
+
+  /** Delete uploads without a new chunk within the ttl, and staging files left by earlier runs. */
+  @Scheduled(
+      initialDelayString = "${cudami.server.uploads.staging.sweep-interval:PT10M}",
+      fixedDelayString = "${cudami.server.uploads.staging.sweep-interval:PT10M}")
+  public void sweep() {
+    Instant expiry = Instant.now().minus(ttl);
+    uploads
+        .values()
+        .removeIf(
+            upload -> {
+              if (upload.getLastModified().isAfter(expiry)) {
+                return false;
+              }
+              LOGGER.info("Deleting expired upload {} of {}", upload.getId(), upload.getFilename());
+              delete(upload.getFile());
+              reserved.remove(upload.getId());
+              return true;
+            });
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+      for (Path file : files) {
+        if (!isStaged(file) && Files.getLastModifiedTime(file).toInstant().isBefore(expiry)) {
+          delete(file);
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Cannot sweep upload staging directory {}: {}", directory, e.getMessage());
+    }
+  }
+
+  public int getActiveUploads() {
+    return uploads.size();
+  }
+
+  /**
+   * @return the maximum total size of staged uploads, negative for no limit
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  private synchronized void reserve(UUID id, long length) throws StagingFullException {
+    if (maxUploads >= 0 && reserved.size() >= maxUploads) {
+      throw new StagingFullException("Already " + reserved.size() + " uploads staged");
+    }
+    long size = reserved.values().stream().mapToLong(Long::longValue).sum();
+    if (maxSize >= 0 && size + length > maxSize) {
+      throw new StagingFullException(
+          "No room for " + length + " bytes besides " + size + " bytes of staged uploads");
+    }
+    reserved.put(id, length);
+  }
+
+  private boolean isStaged(Path file) {
+    String name = file.getFileName().toString();
+    try {
+      return uploads.containsKey(
+          UUID.fromString(name.substring(0, name.length() - SUFFIX.length())));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.warn("Cannot delete staged upload {}: {}", file, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package io.github.dbmdz.cudami.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Asynchronous processing of the API endpoints returning a {@code Callable} ("cudami.api.async.*"),
+ * see {@link SpringConfigWeb#configureAsyncSupport}.
+ */
+@ConfigurationProperties(prefix = "cudami.api.async")
+public class ApiAsyncProperties {
+
+  /**
+   * Release the servlet thread while the backend is called; if disabled, the call runs in the
+   * servlet thread.
+   */
+  private boolean enabled = true;
+
+  /** Time after which a request is answered with 503 Service Unavailable. */
+  private Duration timeout = Duration.ofSeconds(60);
+
+  private int coreSize = 8;
+  private int maxSize = 64;
+
+  /** Calls waiting for a thread; beyond that, calls run in the servlet thread. */
+  private int queueCapacity = 256;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  public int getCoreSize() {
+    return coreSize;
+  }
+
+  public void setCoreSize(int coreSize) {
+    this.coreSize = coreSize;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+}
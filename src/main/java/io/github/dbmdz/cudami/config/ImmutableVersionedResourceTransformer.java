@@ -0,0 +1,138 @@
+package io.github.dbmdz.cudami.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceTransformer;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * Marks static resources requested by a content-versioned url (e.g. "/css/main-&lt;md5&gt;.css") as
+ * cacheable for a year without revalidation ("immutable"): another content gets another url. The
+ * cache control of other requests is the one of the resource handler.
+ *
+ * <p>Must be the first transformer of the resource chain, so that it gets the resource as
+ * transformed by the others (e.g. the {@link CssLinkResourceTransformer}, whose result has no
+ * headers of its own). A resource is versioned, if its file name is not the one of the request
+ * path, as resolved by the {@link VersionResourceResolver}.
+ */
+public class ImmutableVersionedResourceTransformer implements ResourceTransformer {
+
+  static final String CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue() + ", immutable";
+
+  @Override
+  public Resource transform(
+      HttpServletRequest request, Resource resource, ResourceTransformerChain transformerChain)
+      throws IOException {
+    Resource transformed = transformerChain.transform(request, resource);
+    String path =
+        (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+    if (path == null
+        || transformed.getFilename() == null
+        || path.endsWith("/" + transformed.getFilename())
+        || path.equals(transformed.getFilename())) {
+      return transformed;
+    }
+    return new ImmutableResource(transformed);
+  }
+
+  /** A resource with the response headers of an immutable resource. */
+  static class ImmutableResource extends AbstractResource implements HttpResource {
+
+    private final Resource resource;
+
+    ImmutableResource(Resource resource) {
+      this.resource = resource;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+      HttpHeaders headers = new HttpHeaders();
+      if (resource instanceof HttpResource httpResource) {
+        // e.g. the Content-Encoding of a precompressed variant
+        headers.putAll(httpResource.getResponseHeaders());
+      }
+      headers.setCacheControl(CACHE_CONTROL);
+      return headers;
+    }
+
+    @Override
+    public boolean exists() {
+      return resource.exists();
+    }
+
+    @Override
+    public boolean isReadable() {
+      return resource.isReadable();
+    }
+
+    @Override
+    public boolean isFile() {
+      return resource.isFile();
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+      return resource.getURL();
+    }
+
+    @Override
+    public URI getURI() throws IOException {
+      return resource.getURI();
+    }
+
+    @Override
+    public File getFile() throws IOException {
+      return resource.getFile();
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+      return resource.readableChannel();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+      return resource.contentLength();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+      return resource.lastModified();
+    }
+
+    @Override
+    public Resource createRelative(String relativePath) throws IOException {
+      return resource.createRelative(relativePath);
+    }
+
+    @Override
+    public String getFilename() {
+      return resource.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+      return resource.getDescription();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return resource.getInputStream();
+    }
+  }
+}
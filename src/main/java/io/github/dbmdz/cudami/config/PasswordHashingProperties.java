@@ -0,0 +1,59 @@
+package io.github.dbmdz.cudami.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hashing and verification of user passwords with BCrypt ("cudami.security.password-hashing.*"),
+ * see {@link io.github.dbmdz.cudami.business.impl.service.security.PooledPasswordEncoder}.
+ */
+@ConfigurationProperties(prefix = "cudami.security.password-hashing")
+public class PasswordHashingProperties {
+
+  /**
+   * BCrypt cost factor (log2 of the rounds) of new hashes; hashes with another cost are replaced at
+   * the next login.
+   */
+  private int strength = 10;
+
+  /** Passwords hashed at the same time, i.e. CPU cores used for hashing at most. */
+  private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  /** Passwords waiting for a thread; beyond that, logins are rejected at once. */
+  private int queueCapacity = 64;
+
+  /** Time a login waits for its password to be verified before it is rejected. */
+  private Duration maxWait = Duration.ofSeconds(10);
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public void setStrength(int strength) {
+    this.strength = strength;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public Duration getMaxWait() {
+    return maxWait;
+  }
+
+  public void setMaxWait(Duration maxWait) {
+    this.maxWait = maxWait;
+  }
+}
@@ -2,11 +2,33 @@ package io.github.dbmdz.cudami.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.digitalcollections.cudami.client.CudamiClient;
+import io.github.dbmdz.cudami.backend.BackendCalls;
+import io.github.dbmdz.cudami.backend.BackendCallsProperties;
+import io.github.dbmdz.cudami.backend.BackendConnectionWarmer;
+import io.github.dbmdz.cudami.backend.BackendHttpProperties;
+import io.github.dbmdz.cudami.backend.CoalescingHttpClient;
+import io.github.dbmdz.cudami.backend.DefaultTimeoutHttpClient;
+import io.github.dbmdz.cudami.backend.EntityCachingHttpClient;
+import io.github.dbmdz.cudami.backend.FileResourceUploadClient;
+import io.github.dbmdz.cudami.backend.UploadProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.http.HttpClient;
-import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 @Configuration
 public class SpringConfigBackend {
@@ -15,12 +37,167 @@ public class SpringConfigBackend {
   private String serverUrl;
 
   @Bean
-  public CudamiClient cudamiClient(ObjectMapper objectMapper) {
+  public ExecutorService backendHttpExecutor(
+      BackendHttpProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    BackendHttpProperties.Executor config = properties.getExecutor();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            config.getCoreSize(),
+            config.getMaxSize(),
+            config.getKeepAlive().toMillis(),
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(config.getQueueCapacity()),
+            new CustomizableThreadFactory("cudami-backend-"),
+            // never drop work of the http client, let the caller do it instead
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    meterRegistry.ifAvailable(
+        registry ->
+            new ExecutorServiceMetrics(executor, "cudami.backend.http", Tags.empty())
+                .bindTo(registry));
+    return executor;
+  }
+
+  @Bean
+  public HttpClient backendHttpClient(
+      BackendHttpProperties properties,
+      ExecutorService backendHttpExecutor,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    // the JDK connection pool is configured by system properties only, read on first use
+    if (properties.getKeepAliveTimeout() != null) {
+      setSystemPropertyIfAbsent(
+          "jdk.httpclient.keepalive.timeout",
+          String.valueOf(properties.getKeepAliveTimeout().toSeconds()));
+    }
+    if (properties.getConnectionPoolSize() != null) {
+      setSystemPropertyIfAbsent(
+          "jdk.httpclient.connectionPoolSize", String.valueOf(properties.getConnectionPoolSize()));
+    }
     final HttpClient http =
         HttpClient.newBuilder()
+            .version(properties.getVersion())
+            .executor(backendHttpExecutor)
             .followRedirects(HttpClient.Redirect.ALWAYS)
-            .connectTimeout(Duration.ofSeconds(10))
+            .connectTimeout(properties.getConnectTimeout())
             .build();
-    return new CudamiClient(http, serverUrl, objectMapper);
+    HttpClient backendHttpClient =
+        new DefaultTimeoutHttpClient(http, properties.getRequestTimeout());
+
+    if (properties.isCoalesceReads()) {
+      CoalescingHttpClient coalescingHttpClient = new CoalescingHttpClient(backendHttpClient);
+      meterRegistry.ifAvailable(
+          registry ->
+              FunctionCounter.builder(
+                      "cudami.backend.http.coalesced",
+                      coalescingHttpClient,
+                      CoalescingHttpClient::getCoalescedRequests)
+                  .description("Backend reads answered by an identical read already in flight")
+                  .register(registry));
+      backendHttpClient = coalescingHttpClient;
+    }
+
+    BackendHttpProperties.EntityCache entityCache = properties.getEntityCache();
+    if (entityCache.isEnabled()) {
+      EntityCachingHttpClient cachingHttpClient =
+          new EntityCachingHttpClient(
+              backendHttpClient, entityCache.getMaxWeight().toBytes(), entityCache.getTtl());
+      meterRegistry.ifAvailable(
+          registry ->
+              CaffeineCacheMetrics.monitor(
+                  registry, cachingHttpClient.getCache(), "cudami.backend.entities"));
+      backendHttpClient = cachingHttpClient;
+    }
+    return backendHttpClient;
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "cudami.server.http.warmup.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public BackendConnectionWarmer backendConnectionWarmer(
+      HttpClient backendHttpClient, BackendHttpProperties properties) {
+    return new BackendConnectionWarmer(
+        backendHttpClient,
+        serverUrl,
+        properties.getWarmup().getConnections(),
+        properties.getWarmup().getPath());
+  }
+
+  @Bean
+  public BackendCalls backendCalls(
+      BackendCallsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    if (!properties.isParallel()) {
+      return BackendCalls.sequential(properties.getDeadline());
+    }
+    if (properties.isVirtualThreads()) {
+      ExecutorService virtualThreads = BackendCalls.newVirtualThreadPerTaskExecutor();
+      if (virtualThreads != null) {
+        return new BackendCalls(virtualThreads, properties.getDeadline());
+      }
+    }
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            properties.getThreads(),
+            properties.getThreads(),
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory("cudami-calls-"),
+            // if all threads are busy, the request runs its calls itself (i.e. one after another)
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    meterRegistry.ifAvailable(
+        registry ->
+            new ExecutorServiceMetrics(executor, "cudami.backend.calls", Tags.empty())
+                .bindTo(registry));
+    return new BackendCalls(executor, properties.getDeadline());
+  }
+
+  @Bean
+  public CudamiClient cudamiClient(HttpClient backendHttpClient, ObjectMapper objectMapper) {
+    return new CudamiClient(backendHttpClient, serverUrl, objectMapper);
+  }
+
+  @Bean
+  public FileResourceUploadClient fileResourceUploadClient(
+      UploadProperties properties,
+      ObjectMapper objectMapper,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    FileResourceUploadClient uploadClient =
+        new FileResourceUploadClient(serverUrl, objectMapper, properties, registry);
+    Gauge.builder(
+            "cudami.uploads.active",
+            uploadClient.getBufferPool(),
+            bufferPool -> bufferPool.getInUse())
+        .description("Uploads streamed to the backend right now")
+        .register(registry);
+    return uploadClient;
+  }
+
+  @Bean
+  public ExecutorService uploadExecutor(
+      UploadProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    // every forwarded upload holds a buffer of the pool, more threads would only wait for one
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            properties.getBuffers(),
+            properties.getBuffers(),
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.getBuffers() * properties.getParallelism()),
+            new CustomizableThreadFactory("cudami-uploads-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    meterRegistry.ifAvailable(
+        registry ->
+            new ExecutorServiceMetrics(executor, "cudami.uploads", Tags.empty()).bindTo(registry));
+    return executor;
+  }
+
+  private static void setSystemPropertyIfAbsent(String key, String value) {
+    if (System.getProperty(key) == null) {
+      System.setProperty(key, value);
+    }
   }
 }
@@ -2,9 +2,16 @@ package io.github.dbmdz.cudami.config;
 
 import de.digitalcollections.model.security.Role;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.github.dbmdz.cudami.business.impl.service.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -13,10 +20,11 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 @Order(2)
 @SuppressFBWarnings(
     value = "THROWS_METHOD_THROWS_CLAUSE_BASIC_EXCEPTION",
@@ -36,6 +44,10 @@ public class SpringConfigSecurityWebapp extends WebSecurityConfigurerAdapter {
   @Autowired(required = true)
   private UserDetailsService userDetailsService; // provided by component scan
 
+  @Autowired private PasswordHashingProperties passwordHashingProperties;
+
+  @Autowired private ObjectProvider<MeterRegistry> meterRegistry;
+
   @Override
   protected void configure(AuthenticationManagerBuilder auth) throws Exception {
     auth.authenticationProvider(authProvider());
@@ -47,6 +59,9 @@ public class SpringConfigSecurityWebapp extends WebSecurityConfigurerAdapter {
     http.authorizeRequests()
         .requestMatchers(PathRequest.toStaticResources().atCommonLocations())
         .permitAll()
+        // staged uploads take disk space of the webapp
+        .antMatchers("/api/uploads/**")
+        .authenticated()
         .antMatchers("/api/**", "/setup/**")
         .permitAll()
         .and()
@@ -80,8 +95,36 @@ public class SpringConfigSecurityWebapp extends WebSecurityConfigurerAdapter {
   @Bean
   public AuthenticationProvider authProvider() {
     DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-    authProvider.setPasswordEncoder(new BCryptPasswordEncoder());
+    authProvider.setPasswordEncoder(passwordEncoder());
     authProvider.setUserDetailsService(userDetailsService);
+    if (userDetailsService instanceof UserDetailsPasswordService) {
+      // replaces hashes of another cost factor at login
+      authProvider.setUserDetailsPasswordService((UserDetailsPasswordService) userDetailsService);
+    }
     return authProvider;
   }
+
+  /** BCrypt on a bounded pool of threads, for logins as well as for setting passwords. */
+  @Bean
+  public PooledPasswordEncoder passwordEncoder() {
+    PooledPasswordEncoder passwordEncoder =
+        new PooledPasswordEncoder(
+            passwordHashingProperties.getStrength(),
+            passwordHashingProperties.getThreads(),
+            passwordHashingProperties.getQueueCapacity(),
+            passwordHashingProperties.getMaxWait());
+    meterRegistry.ifAvailable(
+        registry -> {
+          new ExecutorServiceMetrics(
+                  passwordEncoder.getExecutor(), "cudami.security.password-hashing", Tags.empty())
+              .bindTo(registry);
+          FunctionCounter.builder(
+                  "cudami.security.password-hashing.rejected",
+                  passwordEncoder,
+                  PooledPasswordEncoder::getRejected)
+              .description("Passwords not checked because of a full queue or a timeout")
+              .register(registry);
+        });
+    return passwordEncoder;
+  }
 }
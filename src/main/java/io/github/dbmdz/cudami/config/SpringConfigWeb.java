@@ -8,41 +8,102 @@ import io.github.dbmdz.cudami.converter.StringToOrderConverter;
 import io.github.dbmdz.cudami.interceptors.CreateAdminUserInterceptor;
 import io.github.dbmdz.cudami.interceptors.RequestIdLoggingInterceptor;
 import io.github.dbmdz.cudami.servlet.filter.LogSessionIdFilter;
-import io.github.dbmdz.cudami.thymeleaf.SpacesDialect;
+import io.github.dbmdz.cudami.thymeleaf.WhitespaceNormalizingTemplateResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import nz.net.ultraq.thymeleaf.layoutdialect.LayoutDialect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
-import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import org.thymeleaf.extras.springsecurity5.dialect.SpringSecurityDialect;
+import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.ITemplateResolver;
 
 @Configuration
+@EnableConfigurationProperties(ApiAsyncProperties.class)
 public class SpringConfigWeb implements WebMvcConfigurer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SpringConfigWeb.class);
 
   static final String ENCODING = "UTF-8";
 
+  private final ApiAsyncProperties apiAsyncProperties;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final WebProperties webProperties;
+
+  public SpringConfigWeb(
+      ApiAsyncProperties apiAsyncProperties,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      WebProperties webProperties) {
+    this.apiAsyncProperties = apiAsyncProperties;
+    this.meterRegistry = meterRegistry;
+    this.webProperties = webProperties;
+  }
+
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
     registry
         .addResourceHandler("/favicon.ico")
         .addResourceLocations("classpath:/static/images/favicon.png");
+    // instead of the handlers of Spring Boot (spring.web.resources.add-mappings is false)
+    addStaticResourceHandler(registry, "/webjars/**", "classpath:/META-INF/resources/webjars/");
+    addStaticResourceHandler(registry, "/**", webProperties.getResources().getStaticLocations());
+  }
+
+  /**
+   * Static resources are requested by urls with a hash of their content (as rewritten by the
+   * ResourceUrlEncodingFilter for link expressions like "@{/js/index.js}"), which can be cached
+   * forever. Requests by the plain url are revalidated. The precompressed variants (.br, .gz)
+   * created by the production build are served to clients accepting them.
+   */
+  private void addStaticResourceHandler(
+      ResourceHandlerRegistry registry, String pathPattern, String... locations) {
+    registry
+        .addResourceHandler(pathPattern)
+        .addResourceLocations(locations)
+        .setCacheControl(CacheControl.noCache())
+        .resourceChain(webProperties.getResources().getChain().isCache())
+        .addResolver(new EncodedResourceResolver())
+        .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+        .addTransformer(new ImmutableVersionedResourceTransformer())
+        .addTransformer(new CssLinkResourceTransformer());
   }
 
   @Bean
@@ -63,9 +124,25 @@ public class SpringConfigWeb implements WebMvcConfigurer {
     return new LayoutDialect();
   }
 
+  /**
+   * Normalize the whitespace of all HTML templates when they are parsed, instead of processing
+   * every element and text on every rendering.
+   */
   @Bean
-  public AbstractProcessorDialect whiteSpaceNormalizedDialect() {
-    return new SpacesDialect();
+  public static BeanPostProcessor whitespaceNormalizingTemplateResolvers() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SpringTemplateEngine templateEngine) {
+          Set<ITemplateResolver> templateResolvers = new LinkedHashSet<>();
+          for (ITemplateResolver templateResolver : templateEngine.getTemplateResolvers()) {
+            templateResolvers.add(new WhitespaceNormalizingTemplateResolver(templateResolver));
+          }
+          templateEngine.setTemplateResolvers(templateResolvers);
+        }
+        return bean;
+      }
+    };
   }
 
   @Bean
@@ -136,6 +213,54 @@ public class SpringConfigWeb implements WebMvcConfigurer {
     return messageSource;
   }
 
+  /**
+   * API endpoints return a {@link java.util.concurrent.Callable} for their backend calls, which is
+   * run on this executor, so that the servlet thread is free for other requests in the meantime.
+   */
+  @Bean
+  public AsyncTaskExecutor apiAsyncExecutor() {
+    if (!apiAsyncProperties.isEnabled()) {
+      return new TaskExecutorAdapter(new SyncTaskExecutor());
+    }
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            apiAsyncProperties.getCoreSize(),
+            apiAsyncProperties.getMaxSize(),
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(apiAsyncProperties.getQueueCapacity()),
+            new CustomizableThreadFactory("cudami-api-"),
+            // if all threads are busy, the servlet thread runs the call itself
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    meterRegistry.ifAvailable(
+        registry ->
+            new ExecutorServiceMetrics(executor, "cudami.api.async", Tags.empty())
+                .bindTo(registry));
+    ConcurrentTaskExecutor taskExecutor = new ConcurrentTaskExecutor(executor);
+    // keep the request id of the servlet thread in the log
+    taskExecutor.setTaskDecorator(
+        task -> {
+          Map<String, String> context = MDC.getCopyOfContextMap();
+          return () -> {
+            if (context != null) {
+              MDC.setContextMap(context);
+            }
+            try {
+              task.run();
+            } finally {
+              MDC.clear();
+            }
+          };
+        });
+    return taskExecutor;
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setTaskExecutor(apiAsyncExecutor());
+    configurer.setDefaultTimeout(apiAsyncProperties.getTimeout().toMillis());
+  }
+
   @Override
   public void addFormatters(FormatterRegistry registry) {
     registry.addConverter(new StringToOrderConverter());
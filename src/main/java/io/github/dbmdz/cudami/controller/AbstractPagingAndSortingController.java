@@ -7,15 +7,12 @@ import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.sorting.Direction;
 import de.digitalcollections.model.list.sorting.Order;
 import de.digitalcollections.model.list.sorting.Sorting;
-import de.digitalcollections.model.text.LocalizedStructuredContent;
-import de.digitalcollections.model.text.LocalizedText;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
+import io.github.dbmdz.cudami.model.bootstraptable.BTCursor;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
-import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Locale;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
 @SuppressFBWarnings
 public abstract class AbstractPagingAndSortingController extends AbstractController {
@@ -24,6 +21,8 @@ public abstract class AbstractPagingAndSortingController extends AbstractControl
 
   public AbstractPagingAndSortingController(LanguageService languageService) {
     this.languageService = languageService;
+    // at startup instead of on the first list request
+    FieldMetadataRegistry.registerModelClasses();
   }
 
   protected BTRequest createBTRequest(
@@ -50,6 +49,44 @@ public abstract class AbstractPagingAndSortingController extends AbstractControl
     return btRequest;
   }
 
+  /**
+   * @param cursor null for offset paging, otherwise the cursor mode of bootstrap-table: empty for a
+   *     page without cursor or the token of the cursor of the previous page (see {@link
+   *     BTRequest#seek(BTCursor)})
+   * @throws InvalidCursorException if the cursor is invalid or the request is not sorted by a
+   *     single property
+   */
+  protected BTRequest createBTRequest(
+      Class targetClass,
+      int offset,
+      int limit,
+      String sortProperty,
+      String sortOrder,
+      String searchProperty,
+      String searchTerm,
+      String dataLanguage,
+      String cursor)
+      throws TechnicalException, IllegalArgumentException {
+    BTRequest btRequest =
+        createBTRequest(
+            targetClass,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            searchProperty,
+            searchTerm,
+            dataLanguage);
+    if (cursor != null) {
+      try {
+        btRequest.seek(cursor.isEmpty() ? null : BTCursor.decode(cursor));
+      } catch (IllegalArgumentException e) {
+        throw new InvalidCursorException(e.getMessage(), e);
+      }
+    }
+    return btRequest;
+  }
+
   private Filtering createFiltering(
       Class targetClass, String searchProperty, String searchTerm, String dataLanguage)
       throws TechnicalException {
@@ -181,18 +218,11 @@ public abstract class AbstractPagingAndSortingController extends AbstractControl
     return dataLanguage;
   }
 
-  private boolean isMultiLanguageField(Class clz, String fieldName) throws TechnicalException {
-    Field field;
-    try {
-      Class fieldType = getFieldType(clz, fieldName);
-      if (LocalizedText.class == fieldType || LocalizedStructuredContent.class == fieldType) {
-        return true;
-      }
-      return false;
-    } catch (NoSuchFieldException | SecurityException e) {
-      throw new TechnicalException(
-          "Field " + fieldName + " not found in class " + clz.getSimpleName(), e);
-    }
+  /**
+   * @throws UnknownFieldException if the class has no such field
+   */
+  private boolean isMultiLanguageField(Class clz, String fieldName) {
+    return FieldMetadataRegistry.getField(clz, fieldName).localized();
   }
 
   /**
@@ -204,10 +234,10 @@ public abstract class AbstractPagingAndSortingController extends AbstractControl
    * @throws NoSuchFieldException thrown if not found
    */
   public static Class getFieldType(Class clz, String fieldName) throws NoSuchFieldException {
-    Field field = FieldUtils.getField(clz, fieldName, true);
+    FieldMetadataRegistry.FieldMetadata field = FieldMetadataRegistry.getFields(clz).get(fieldName);
     if (field == null) {
       throw new NoSuchFieldException();
     }
-    return field.getType();
+    return field.type();
   }
 }
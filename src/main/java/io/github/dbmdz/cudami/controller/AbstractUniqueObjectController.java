@@ -31,6 +31,33 @@ public class AbstractUniqueObjectController<U extends UniqueObject>
       String searchTerm,
       String dataLanguage)
       throws TechnicalException {
+    return find(
+        targetClass,
+        offset,
+        limit,
+        sortProperty,
+        sortOrder,
+        searchProperty,
+        searchTerm,
+        dataLanguage,
+        null);
+  }
+
+  /**
+   * @param cursor see {@link #createBTRequest(Class, int, int, String, String, String, String,
+   *     String, String)}
+   */
+  protected BTResponse<U> find(
+      Class targetClass,
+      int offset,
+      int limit,
+      String sortProperty,
+      String sortOrder,
+      String searchProperty,
+      String searchTerm,
+      String dataLanguage,
+      String cursor)
+      throws TechnicalException {
     BTRequest btRequest =
         createBTRequest(
             targetClass,
@@ -40,8 +67,9 @@ public class AbstractUniqueObjectController<U extends UniqueObject>
             sortOrder,
             searchProperty,
             searchTerm,
-            dataLanguage);
+            dataLanguage,
+            cursor);
     PageResponse<U> pageResponse = service.find(btRequest);
-    return new BTResponse<>(pageResponse);
+    return new BTResponse<>(pageResponse, btRequest);
   }
 }
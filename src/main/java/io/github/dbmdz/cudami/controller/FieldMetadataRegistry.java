@@ -0,0 +1,120 @@
+package io.github.dbmdz.cudami.controller;
+
+import de.digitalcollections.model.identifiable.Identifiable;
+import de.digitalcollections.model.identifiable.entity.Collection;
+import de.digitalcollections.model.identifiable.entity.Entity;
+import de.digitalcollections.model.identifiable.entity.Project;
+import de.digitalcollections.model.identifiable.entity.Topic;
+import de.digitalcollections.model.identifiable.entity.Website;
+import de.digitalcollections.model.identifiable.entity.agent.Agent;
+import de.digitalcollections.model.identifiable.entity.digitalobject.DigitalObject;
+import de.digitalcollections.model.identifiable.entity.item.Item;
+import de.digitalcollections.model.identifiable.entity.manifestation.Manifestation;
+import de.digitalcollections.model.identifiable.entity.work.Work;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import de.digitalcollections.model.identifiable.web.Webpage;
+import de.digitalcollections.model.security.User;
+import de.digitalcollections.model.text.LocalizedStructuredContent;
+import de.digitalcollections.model.text.LocalizedText;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sortable and filterable properties of the model classes, i.e. their (inherited) fields, and
+ * whether they are localized. The fields of a class are read once by reflection - for the classes
+ * used by the list controllers by {@link #registerModelClasses()} when the controllers are created
+ * at startup, for any other class on first use - so that building paging requests only needs map
+ * lookups.
+ */
+public final class FieldMetadataRegistry {
+
+  /** Metadata of a property of a model class. */
+  public record FieldMetadata(String name, Class<?> type, boolean localized) {}
+
+  /** Model classes of the list controllers, registered at startup. */
+  static final List<Class<?>> MODEL_CLASSES =
+      List.of(
+          Agent.class,
+          Collection.class,
+          DigitalObject.class,
+          Entity.class,
+          FileResource.class,
+          Identifiable.class,
+          Item.class,
+          Manifestation.class,
+          Project.class,
+          Topic.class,
+          User.class,
+          Webpage.class,
+          Website.class,
+          Work.class);
+
+  private static final Map<Class<?>, Map<String, FieldMetadata>> FIELDS = new ConcurrentHashMap<>();
+
+  private FieldMetadataRegistry() {}
+
+  /** Reads the fields of the {@link #MODEL_CLASSES}, if not done yet. */
+  public static void registerModelClasses() {
+    MODEL_CLASSES.forEach(FieldMetadataRegistry::getFields);
+  }
+
+  /**
+   * @param clz model class
+   * @return whether the fields of the class have been read
+   */
+  static boolean isRegistered(Class<?> clz) {
+    return FIELDS.containsKey(clz);
+  }
+
+  /** Forgets all fields read (for tests). */
+  static void clear() {
+    FIELDS.clear();
+  }
+
+  /**
+   * @param clz model class
+   * @param fieldName name of a property of the class
+   * @return metadata of the property
+   * @throws UnknownFieldException if the class has no such property
+   */
+  public static FieldMetadata getField(Class<?> clz, String fieldName) {
+    FieldMetadata field = getFields(clz).get(fieldName);
+    if (field == null) {
+      throw new UnknownFieldException(clz, fieldName);
+    }
+    return field;
+  }
+
+  /**
+   * @param clz model class
+   * @return all properties of the class by name
+   */
+  public static Map<String, FieldMetadata> getFields(Class<?> clz) {
+    return FIELDS.computeIfAbsent(clz, FieldMetadataRegistry::readFields);
+  }
+
+  private static Map<String, FieldMetadata> readFields(Class<?> clz) {
+    Map<String, FieldMetadata> fields = new HashMap<>();
+    // walk up the hierarchy, fields of subclasses hide those of superclasses
+    for (Class<?> current = clz; current != null; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+          continue;
+        }
+        Class<?> type = field.getType();
+        fields.putIfAbsent(
+            field.getName(),
+            new FieldMetadata(
+                field.getName(),
+                type,
+                LocalizedText.class == type || LocalizedStructuredContent.class == type));
+      }
+    }
+    return Collections.unmodifiableMap(fields);
+  }
+}
@@ -0,0 +1,9 @@
+package io.github.dbmdz.cudami.controller;
+
+/** Thrown if a request has a cursor, which is invalid or does not fit its sorting. */
+public class InvalidCursorException extends IllegalArgumentException {
+
+  public InvalidCursorException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
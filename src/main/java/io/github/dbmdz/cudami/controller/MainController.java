@@ -2,15 +2,11 @@ package io.github.dbmdz.cudami.controller;
 
 import static io.github.dbmdz.cudami.controller.ParameterHelper.UUID_PATTERN;
 
-import de.digitalcollections.cudami.client.CudamiClient;
-import de.digitalcollections.cudami.client.identifiable.CudamiIdentifierTypesClient;
-import de.digitalcollections.model.identifiable.IdentifierType;
-import de.digitalcollections.model.list.paging.PageRequest;
-import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.security.User;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.api.service.security.UserService;
+import io.github.dbmdz.cudami.business.identifier.IdentifierNamespaceIndex;
 import java.net.URLEncoder;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -25,11 +21,12 @@ import org.springframework.web.bind.annotation.SessionAttributes;
 public class MainController {
 
   private final UserService<User> userService;
-  private final CudamiIdentifierTypesClient identifierService;
+  private final IdentifierNamespaceIndex identifierNamespaceIndex;
 
   @SuppressFBWarnings(value = "EI_EXPOSE_REP2")
-  public MainController(CudamiClient cudamiClient, UserService<User> userService) {
-    this.identifierService = cudamiClient.forIdentifierTypes();
+  public MainController(
+      IdentifierNamespaceIndex identifierNamespaceIndex, UserService<User> userService) {
+    this.identifierNamespaceIndex = identifierNamespaceIndex;
     this.userService = userService;
   }
 
@@ -47,7 +44,7 @@ public class MainController {
     if (principal instanceof UserDetails) {
       try {
         String username = ((UserDetails) principal).getUsername();
-        User user = userService.getByEmail(username);
+        User user = userService.getByEmailCached(username);
         model.addAttribute("loggedInUser", user);
       } catch (ServiceException ex) {
       }
@@ -66,13 +63,9 @@ public class MainController {
     if (q.contains(":")) {
       String identifierNamespace = q.split(":")[0];
       // Check, if the namespace is valid. if yes, we can directly forward to the destination
-      PageResponse<IdentifierType> identifierTypePageResponse =
-          identifierService.find(PageRequest.builder().pageSize(9999).pageNumber(0).build());
-      for (IdentifierType identifierType : identifierTypePageResponse.getContent()) {
-        String namespace = identifierType.getNamespace();
-        if (namespace.equalsIgnoreCase(identifierNamespace)) {
-          return "forward:/identifiables/" + q.replaceFirst("^.*?:", namespace + ":");
-        }
+      String namespace = identifierNamespaceIndex.getNamespace(identifierNamespace);
+      if (namespace != null) {
+        return "forward:/identifiables/" + q.replaceFirst("^.*?:", namespace + ":");
       }
     }
 
@@ -0,0 +1,9 @@
+package io.github.dbmdz.cudami.controller;
+
+/** Thrown if a request sorts or filters by a property the model class does not have. */
+public class UnknownFieldException extends IllegalArgumentException {
+
+  public UnknownFieldException(Class<?> clz, String fieldName) {
+    super("Field " + fieldName + " not found in class " + clz.getSimpleName());
+  }
+}
@@ -3,6 +3,9 @@ package io.github.dbmdz.cudami.controller.advice;
 import de.digitalcollections.model.exception.ResourceNotFoundException;
 import de.digitalcollections.model.security.Role;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.github.dbmdz.cudami.controller.InvalidCursorException;
+import io.github.dbmdz.cudami.controller.UnknownFieldException;
+import io.github.dbmdz.cudami.controller.identifiable.resource.UploadRejectedException;
 import io.github.dbmdz.cudami.propertyeditor.RoleEditor;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -13,6 +16,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.ModelAndView;
 
@@ -61,6 +66,29 @@ public class GlobalControllerAdvice {
     return "error/404";
   }
 
+  @ExceptionHandler(UnknownFieldException.class)
+  public ResponseEntity<String> handleUnknownFieldException(UnknownFieldException e) {
+    return ResponseEntity.badRequest().body(e.getMessage());
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException e) {
+    return ResponseEntity.badRequest().body(e.getMessage());
+  }
+
+  @ExceptionHandler(AsyncRequestTimeoutException.class)
+  public ResponseEntity<String> handleAsyncRequestTimeoutException(HttpServletRequest request) {
+    LOGGER.warn("Timeout of asynchronous request {}", request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+  }
+
+  @ExceptionHandler(UploadRejectedException.class)
+  public ResponseEntity<String> handleUploadRejectedException(
+      UploadRejectedException e, HttpServletRequest request) {
+    LOGGER.warn("Rejected upload {}: {}", request.getRequestURI(), e.getMessage());
+    return ResponseEntity.status(e.getStatus()).body(e.getMessage());
+  }
+
   @ExceptionHandler(value = {Exception.class})
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   public ModelAndView handleAllException(
@@ -1,57 +1,108 @@
 package io.github.dbmdz.cudami.controller.fragments;
 
-import de.digitalcollections.model.identifiable.Identifiable;
+import io.github.dbmdz.cudami.controller.fragments.RenderedFragmentCache.RenderedFragment;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+/**
+ * Form fragments for another language of an identifiable, added by the "add language" dialog. They
+ * are rendered once per field language and locale of the user interface (see {@link
+ * RenderedFragmentCache}) and may be cached by browsers, if the locale is given by the "language"
+ * parameter: the dialog adds the version of the webapp as parameter "v", too.
+ */
 @Controller
 public class FragmentsController {
 
+  private static final String LABEL_FORM = "fragments/forms/multilanguage-label-form";
+  private static final String LABEL_DESCRIPTION_FORM =
+      "fragments/forms/multilanguage-label-description-form";
+  private static final String LABEL_LOCALIZED_TEXT_DESCRIPTION_FORM =
+      "fragments/forms/multilanguage-label-loctextdescription-form";
+  private static final String TEASER_FORM = "fragments/forms/multilanguage-teaser";
+
+  private final RenderedFragmentCache renderedFragments;
+  private final Duration maxAge;
+
+  public FragmentsController(
+      RenderedFragmentCache renderedFragments,
+      @Value("${cudami.fragments.cache.max-age:PT24H}") Duration maxAge) {
+    this.renderedFragments = renderedFragments;
+    this.maxAge = maxAge;
+  }
+
   @GetMapping(value = "/fragments/forms/label", produces = MediaType.TEXT_HTML_VALUE)
-  public String getFormFragmentLabel(
-      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage, Model model) {
-    model.addAttribute("identifiable", new Identifiable());
-    model.addAttribute("beanName", "identifiable");
-    model.addAttribute("fieldLanguage", fieldLanguage);
-    model.addAttribute("active", true);
-    return "fragments/forms/multilanguage-label-form";
+  public ResponseEntity<String> getFormFragmentLabel(
+      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage,
+      @RequestParam(name = "language", required = false) String language,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    return render(LABEL_FORM, fieldLanguage, language, locale, request, response);
   }
 
   @GetMapping(value = "/fragments/forms/label-description")
-  public String getFormFragmentLabelDescription(
-      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage, Model model) {
-    model.addAttribute("identifiable", new Identifiable());
-    model.addAttribute("beanName", "identifiable");
-    model.addAttribute("fieldLanguage", fieldLanguage);
-    model.addAttribute("active", true);
-    return "fragments/forms/multilanguage-label-description-form";
+  public ResponseEntity<String> getFormFragmentLabelDescription(
+      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage,
+      @RequestParam(name = "language", required = false) String language,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    return render(LABEL_DESCRIPTION_FORM, fieldLanguage, language, locale, request, response);
   }
 
   @GetMapping(value = "/fragments/forms/label-loctextdescription")
-  public String getFormFragmentLabelLocalizedTextDescription(
-      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage, Model model) {
-    model.addAttribute("identifiable", new Identifiable());
-    model.addAttribute("beanName", "identifiable");
-    model.addAttribute("fieldLanguage", fieldLanguage);
-    model.addAttribute("active", true);
-    return "fragments/forms/multilanguage-label-loctextdescription-form";
+  public ResponseEntity<String> getFormFragmentLabelLocalizedTextDescription(
+      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage,
+      @RequestParam(name = "language", required = false) String language,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    return render(
+        LABEL_LOCALIZED_TEXT_DESCRIPTION_FORM, fieldLanguage, language, locale, request, response);
   }
 
   @GetMapping(value = "/fragments/forms/teaser")
-  public String getFormFragmentTeaser(
-      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage, Model model) {
-    model.addAttribute("identifiable", new Identifiable());
-    model.addAttribute("beanName", "identifiable");
-    model.addAttribute("fieldLanguage", fieldLanguage);
-    model.addAttribute("active", true);
-    return "fragments/forms/multilanguage-teaser";
+  public ResponseEntity<String> getFormFragmentTeaser(
+      @RequestParam(name = "fieldLanguage", required = true) String fieldLanguage,
+      @RequestParam(name = "language", required = false) String language,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    return render(TEASER_FORM, fieldLanguage, language, locale, request, response);
+  }
+
+  private ResponseEntity<String> render(
+      String template,
+      String fieldLanguage,
+      String language,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    RenderedFragment fragment =
+        renderedFragments.get(template, fieldLanguage, locale, request, response);
+    // without "language" the locale is the one of the session, which the url does not tell
+    CacheControl cacheControl =
+        language != null
+            ? CacheControl.maxAge(maxAge).cachePrivate()
+            : CacheControl.noCache().cachePrivate();
+    return ResponseEntity.ok()
+        .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+        .cacheControl(cacheControl)
+        .eTag(fragment.etag())
+        .body(fragment.html());
   }
 
   public static final String getDisplayLanguages(Locale displayLocale, Collection<Locale> locales) {
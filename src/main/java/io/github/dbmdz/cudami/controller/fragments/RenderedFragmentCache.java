@@ -0,0 +1,98 @@
+package io.github.dbmdz.cudami.controller.fragments;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.digitalcollections.model.identifiable.Identifiable;
+import io.github.dbmdz.cudami.thymeleaf.ViewRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+/**
+ * HTML of form fragments, which only depend on the template, the language of the fields and the
+ * locale of the user interface. A fragment missing in the cache is rendered by the {@link
+ * ViewRenderer} for the request that asks for it, like the view of a controller, and then served to
+ * all requests of the same template, field language and locale.
+ */
+@Component
+public class RenderedFragmentCache {
+
+  /**
+   * @param html the rendered fragment
+   * @param etag strong ETag of the fragment, changing with the version of the webapp
+   */
+  public record RenderedFragment(String html, String etag) {}
+
+  private record Key(String template, String fieldLanguage, Locale locale) {}
+
+  private final Cache<Key, RenderedFragment> fragments;
+  private final ViewRenderer viewRenderer;
+  private final String version;
+
+  public RenderedFragmentCache(
+      ViewRenderer viewRenderer,
+      @Value("${info.app.project.version:unknown}") String version,
+      @Value("${cudami.fragments.cache.max-size:1000}") long maxSize,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.viewRenderer = viewRenderer;
+    this.version = version;
+    this.fragments = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+    meterRegistry.ifAvailable(
+        registry -> CaffeineCacheMetrics.monitor(registry, fragments, "cudami.fragments"));
+  }
+
+  /**
+   * @param template name of the template, rendered for a new identifiable
+   * @param fieldLanguage language of the form fields
+   * @param locale locale of the user interface
+   * @param request the request asking for the fragment, to render it if it is not cached
+   * @param response the response to the request, not written to
+   * @return the rendered fragment
+   */
+  public RenderedFragment get(
+      String template,
+      String fieldLanguage,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    return fragments.get(
+        new Key(template, fieldLanguage, locale), key -> render(key, request, response));
+  }
+
+  private RenderedFragment render(
+      Key key, HttpServletRequest request, HttpServletResponse response) {
+    Identifiable identifiable = new Identifiable();
+    Map<String, Object> model = new HashMap<>();
+    model.put("identifiable", identifiable);
+    // as added by Spring MVC to the model of a controller, for the form fields
+    model.put(
+        BindingResult.MODEL_KEY_PREFIX + "identifiable",
+        new BeanPropertyBindingResult(identifiable, "identifiable"));
+    model.put("beanName", "identifiable");
+    model.put("fieldLanguage", key.fieldLanguage());
+    model.put("active", true);
+
+    String html;
+    try {
+      html = viewRenderer.render(key.template(), model, key.locale(), request, response);
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot render fragment " + key.template(), e);
+    }
+    String etag =
+        "\""
+            + DigestUtils.md5DigestAsHex((version + "\n" + html).getBytes(StandardCharsets.UTF_8))
+            + "\"";
+    return new RenderedFragment(html, etag);
+  }
+}
@@ -2,6 +2,7 @@ package io.github.dbmdz.cudami.controller.identifiable;
 
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.identifiable.CudamiIdentifiablesClient;
+import de.digitalcollections.model.exception.ResourceNotFoundException;
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.Identifiable;
 import de.digitalcollections.model.identifiable.IdentifiableObjectType;
@@ -9,6 +10,7 @@ import de.digitalcollections.model.identifiable.entity.HeadwordEntry;
 import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.paging.PageResponse;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import java.util.ArrayList;
@@ -19,6 +21,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.ui.Model;
 import org.springframework.util.CollectionUtils;
@@ -28,6 +31,7 @@ public class AbstractIdentifiablesController<
     extends AbstractUniqueObjectController<I> {
 
   private final CudamiClient cudamiClient;
+  private IdentifiableResolutionCache resolutionCache;
 
   protected AbstractIdentifiablesController(
       C service, CudamiClient cudamiClient, LanguageService languageService) {
@@ -35,6 +39,45 @@ public class AbstractIdentifiablesController<
     this.cudamiClient = cudamiClient;
   }
 
+  @Autowired
+  void setResolutionCache(IdentifiableResolutionCache resolutionCache) {
+    this.resolutionCache = resolutionCache;
+  }
+
+  protected IdentifiableResolutionCache getResolutionCache() {
+    return resolutionCache;
+  }
+
+  /**
+   * Remember uuid, type and identifiers of an identifiable loaded for a page, so that following a
+   * link to it by uuid or identifier does not load it again (see {@link
+   * IdentifiableResolutionCache}).
+   *
+   * @param identifiable the loaded identifiable, may be null
+   * @return the identifiable
+   */
+  protected <T extends Identifiable> T remember(T identifiable) {
+    if (resolutionCache != null) {
+      resolutionCache.put(identifiable);
+    }
+    return identifiable;
+  }
+
+  /**
+   * Forget what uuid and identifiers of a saved or updated identifiable resolved to, see {@link
+   * IdentifiableResolutionCache#invalidate(UUID, Identifiable)}.
+   *
+   * @param uuid uuid of an updated identifiable, null for a new one
+   * @param changed the identifiable as returned by the backend
+   * @return the changed identifiable
+   */
+  protected <T extends Identifiable> T forget(UUID uuid, T changed) {
+    if (resolutionCache != null) {
+      resolutionCache.invalidate(uuid, changed);
+    }
+    return changed;
+  }
+
   protected List<Locale> getExistingLanguagesFromIdentifiable(Identifiable identifiable) {
     return getExistingLanguagesFromIdentifiables(List.of(identifiable));
   }
@@ -112,7 +155,8 @@ public class AbstractIdentifiablesController<
     }
   }
 
-  public String doForward(Identifiable identifiable, Model model) throws TechnicalException {
+  public String doForward(Identifiable identifiable, Model model)
+      throws TechnicalException, ResourceNotFoundException {
     final String uuid = identifiable.getUuid().toString();
     IdentifiableObjectType identifiableObjectType = identifiable.getIdentifiableObjectType();
     switch (identifiableObjectType) {
@@ -175,10 +219,7 @@ public class AbstractIdentifiablesController<
       // return "forward:/geo/valleys/" + uuid;
       // }
       case HEADWORD_ENTRY:
-        HeadwordEntry headwordEntry =
-            cudamiClient.forHeadwordEntries().getByUuid(identifiable.getUuid());
-        UUID headwordUuid = headwordEntry.getHeadword().getUuid();
-        return "redirect:/headwords/" + headwordUuid;
+        return "redirect:/headwords/" + requireHeadwordUuid(identifiable.getUuid());
       case ITEM:
         return "forward:/items/" + uuid;
       case MANIFESTATION:
@@ -202,9 +243,36 @@ public class AbstractIdentifiablesController<
     }
   }
 
-  public String doRedirect(Identifiable identifiable, Model model) throws TechnicalException {
-    final String uuid = identifiable.getUuid().toString();
-    IdentifiableObjectType identifiableObjectType = identifiable.getIdentifiableObjectType();
+  /**
+   * @param headwordEntryUuid uuid of a headword entry
+   * @return uuid of the headword of the entry, null if the entry does not exist or has no headword
+   */
+  protected UUID getHeadwordUuid(UUID headwordEntryUuid) throws TechnicalException {
+    HeadwordEntry headwordEntry = cudamiClient.forHeadwordEntries().getByUuid(headwordEntryUuid);
+    if (headwordEntry == null || headwordEntry.getHeadword() == null) {
+      return null;
+    }
+    return headwordEntry.getHeadword().getUuid();
+  }
+
+  private UUID requireHeadwordUuid(UUID headwordEntryUuid)
+      throws TechnicalException, ResourceNotFoundException {
+    UUID headwordUuid = getHeadwordUuid(headwordEntryUuid);
+    if (headwordUuid == null) {
+      throw new ResourceNotFoundException("get headword of headword entry " + headwordEntryUuid);
+    }
+    return headwordUuid;
+  }
+
+  public String doRedirect(Identifiable identifiable, Model model)
+      throws TechnicalException, ResourceNotFoundException {
+    return doRedirect(identifiable.getUuid(), identifiable.getIdentifiableObjectType(), model);
+  }
+
+  public String doRedirect(
+      UUID identifiableUuid, IdentifiableObjectType identifiableObjectType, Model model)
+      throws TechnicalException, ResourceNotFoundException {
+    final String uuid = identifiableUuid.toString();
     switch (identifiableObjectType) {
       case APPLICATION_FILE_RESOURCE:
       case AUDIO_FILE_RESOURCE:
@@ -228,10 +296,7 @@ public class AbstractIdentifiablesController<
       case HUMAN_SETTLEMENT:
         return "redirect:/geolocations/" + uuid;
       case HEADWORD_ENTRY:
-        HeadwordEntry headwordEntry =
-            cudamiClient.forHeadwordEntries().getByUuid(identifiable.getUuid());
-        UUID headwordUuid = headwordEntry.getHeadword().getUuid();
-        return "redirect:/headwords/" + headwordUuid;
+        return "redirect:/headwords/" + requireHeadwordUuid(identifiableUuid);
       case ITEM:
         return "redirect:/items/" + uuid;
       case MANIFESTATION:
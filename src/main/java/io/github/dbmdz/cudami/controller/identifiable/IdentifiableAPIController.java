@@ -8,10 +8,20 @@ import de.digitalcollections.model.list.filtering.Filtering;
 import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.list.sorting.Sorting;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
+import io.github.dbmdz.cudami.backend.BackendCallScope;
+import io.github.dbmdz.cudami.backend.BackendCallScope.BackendCall;
+import io.github.dbmdz.cudami.backend.BackendCallScope.Fork;
+import io.github.dbmdz.cudami.backend.BackendCalls;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.Callable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -20,23 +30,72 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class IdentifiableAPIController extends AbstractUniqueObjectController<Identifiable> {
 
-  public IdentifiableAPIController(CudamiClient client) {
+  static final String QUERY_METRIC = "cudami.identifiables.search.query";
+  static final String CANCELLED_METRIC = "cudami.identifiables.search.cancelled";
+
+  private final BackendCalls backendCalls;
+  private final MeterRegistry meterRegistry;
+  private final IdentifiableResolutionCache resolutionCache;
+  private final boolean speculativeLabelSearch;
+
+  public IdentifiableAPIController(
+      CudamiClient client,
+      BackendCalls backendCalls,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      IdentifiableResolutionCache resolutionCache,
+      @Value("${cudami.identifiables.speculative-label-search:true}")
+          boolean speculativeLabelSearch) {
     super(client.forIdentifiables(), null);
+    this.backendCalls = backendCalls;
+    this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    this.resolutionCache = resolutionCache;
+    this.speculativeLabelSearch = speculativeLabelSearch;
   }
 
   @SuppressFBWarnings
   @GetMapping("/api/identifiables")
   @ResponseBody
-  public BTResponse<Identifiable> find(
+  public Callable<BTResponse<Identifiable>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
-      @RequestParam(name = "search", required = true) String searchTerm)
-      throws TechnicalException, ServiceException {
-    if (searchTerm != null) {
-      // FIXME: This seems to be a thymeleaf problem in templates/identifiables/list.html
-      searchTerm = searchTerm.replace("&quot;", "\"");
-    }
+      @RequestParam(name = "search", required = true) String searchTerm) {
+    // FIXME: This seems to be a thymeleaf problem in templates/identifiables/list.html
+    final String searchTermUnescaped =
+        searchTerm != null ? searchTerm.replace("&quot;", "\"") : null;
+    return () -> {
+      BTRequest idRequest = createRequest(offset, limit, getIdFiltering(searchTermUnescaped));
+      BTRequest labelRequest = createRequest(offset, limit, getLabelFiltering(searchTermUnescaped));
+      if (!speculativeLabelSearch) {
+        // Step 1: Search over identifiers
+        PageResponse<Identifiable> pageResponse = query("identifier", idRequest).call();
+        if (!pageResponse.hasContent()) {
+          // Step 2: Search over labels
+          pageResponse = query("label", labelRequest).call();
+        }
+        return new BTResponse<>(pageResponse);
+      }
+
+      // Most searches are for labels: query both at once, a hit by identifier takes precedence
+      try (BackendCallScope calls = backendCalls.open()) {
+        Fork<PageResponse<Identifiable>> idCall =
+            calls.fork("identifier search", query("identifier", idRequest));
+        Fork<PageResponse<Identifiable>> labelCall =
+            calls.fork("label search", query("label", labelRequest));
+        PageResponse<Identifiable> pageResponse = idCall.join();
+        if (pageResponse.hasContent()) {
+          if (!labelCall.isDone()) {
+            // cancelled when leaving the scope
+            meterRegistry.counter(CANCELLED_METRIC, "branch", "label").increment();
+          }
+          return new BTResponse<>(pageResponse);
+        }
+        return new BTResponse<>(labelCall.join());
+      }
+    };
+  }
 
+  private BTRequest createRequest(int offset, int limit, Filtering filtering)
+      throws TechnicalException {
     BTRequest btRequest = new BTRequest(offset, limit);
 
     // add sorting in a very limited way, since we have very few fields, which exist
@@ -46,15 +105,26 @@ public class IdentifiableAPIController extends AbstractUniqueObjectController<Id
     Sorting sorting = createSorting(Identifiable.class, sortProperty, sortOrder, null);
     btRequest.setSorting(sorting);
 
-    btRequest.setFiltering(getIdFiltering(searchTerm));
-    // Step 1: Search over identifiers
-    PageResponse<Identifiable> pageResponse = service.find(btRequest);
-    if (!pageResponse.hasContent()) {
-      // Step 2: Search over labels
-      btRequest.setFiltering(getLabelFiltering(searchTerm));
-      pageResponse = service.find(btRequest);
-    }
-    return new BTResponse<>(pageResponse);
+    btRequest.setFiltering(filtering);
+    return btRequest;
+  }
+
+  /** Search with timing per branch and outcome, to see the hit ratio of both searches. */
+  private BackendCall<PageResponse<Identifiable>> query(String branch, BTRequest btRequest) {
+    return () -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      PageResponse<Identifiable> pageResponse = service.find(btRequest);
+      // the results are linked by uuid, remember where they redirect to
+      resolutionCache.putAll(pageResponse.getContent());
+      sample.stop(
+          meterRegistry.timer(
+              QUERY_METRIC,
+              "branch",
+              branch,
+              "outcome",
+              pageResponse.hasContent() ? "hit" : "miss"));
+      return pageResponse;
+    };
   }
 
   private Filtering getLabelFiltering(String searchTerm) {
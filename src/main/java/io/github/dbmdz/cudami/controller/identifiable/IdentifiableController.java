@@ -9,7 +9,10 @@ import de.digitalcollections.model.identifiable.Identifiable;
 import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.list.sorting.Order;
+import io.github.dbmdz.cudami.business.headword.HeadwordEntryIndex;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache.Resolution;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -28,8 +31,18 @@ import org.springframework.web.bind.annotation.ResponseBody;
 public class IdentifiableController
     extends AbstractIdentifiablesController<Identifiable, CudamiIdentifiablesClient<Identifiable>> {
 
-  public IdentifiableController(CudamiClient client, LanguageService languageService) {
+  private static final Pattern IDENTIFIER_PARAM_PATTERN = Pattern.compile("^([^:]+?):(.*)$");
+
+  private final HeadwordEntryIndex headwordEntryIndex;
+
+  public IdentifiableController(
+      CudamiClient client,
+      LanguageService languageService,
+      IdentifiableResolutionCache resolutionCache,
+      HeadwordEntryIndex headwordEntryIndex) {
     super(client.forIdentifiables(), client, languageService);
+    this.headwordEntryIndex = headwordEntryIndex;
+    setResolutionCache(resolutionCache);
   }
 
   @GetMapping(value = "/identifiables")
@@ -75,41 +88,54 @@ public class IdentifiableController
   @GetMapping(value = {"/identifiables/{namespace:[a-zA-Z\\d_\\-]+}:{id:.+}"})
   public String view(@PathVariable String namespace, @PathVariable String id, Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Identifiable identifiable =
-        ((CudamiIdentifiablesClient) service).getByIdentifier(namespace, id);
-    if (identifiable == null) {
-      throw new ResourceNotFoundException("get entity by identifier with " + namespace + ":" + id);
-    }
-    return doRedirect(identifiable, model);
+    return redirectByIdentifier(namespace, id, model);
   }
 
   @GetMapping(value = {"/identifiables/{base64:[^:]+}"})
   public String viewBase64Encoded(@PathVariable String base64, Model model)
       throws TechnicalException, ResourceNotFoundException {
     String paramString = new String(Base64.decodeBase64(base64), StandardCharsets.UTF_8);
-    Pattern identifierParamPattern = Pattern.compile("^([^:]+?):(.*)$");
-    Matcher identifierParamMatcher = identifierParamPattern.matcher(paramString);
+    Matcher identifierParamMatcher = IDENTIFIER_PARAM_PATTERN.matcher(paramString);
     if (!identifierParamMatcher.matches()) {
       throw new ResourceNotFoundException("get entity by identifier with " + paramString);
     }
     String namespace = identifierParamMatcher.group(1);
     String id = identifierParamMatcher.group(2);
-
-    Identifiable identifiable =
-        ((CudamiIdentifiablesClient) service).getByIdentifier(namespace, id);
-    if (identifiable == null) {
-      throw new ResourceNotFoundException("get entity by identifier with " + namespace + ":" + id);
-    }
-    return doRedirect(identifiable, model);
+    return redirectByIdentifier(namespace, id, model);
   }
 
   @GetMapping(value = {"/identifiables/uuid/{uuid:" + ParameterHelper.UUID_PATTERN + "}"})
   public String view(@PathVariable UUID uuid, Model model)
       throws TechnicalException, ResourceNotFoundException {
+    Resolution resolution = getResolutionCache().getByUuid(uuid);
+    if (resolution != null) {
+      return doRedirect(resolution.uuid(), resolution.type(), model);
+    }
     UniqueObject identifiable = ((CudamiIdentifiablesClient) service).getByUuid(uuid);
     if (identifiable == null || !(identifiable instanceof Identifiable)) {
       throw new ResourceNotFoundException("get identifiable by uuid=" + uuid);
     }
+    remember((Identifiable) identifiable);
     return doRedirect((Identifiable) identifiable, model);
   }
+
+  private String redirectByIdentifier(String namespace, String id, Model model)
+      throws TechnicalException, ResourceNotFoundException {
+    Resolution resolution = getResolutionCache().getByIdentifier(namespace, id);
+    if (resolution != null) {
+      return doRedirect(resolution.uuid(), resolution.type(), model);
+    }
+    Identifiable identifiable =
+        ((CudamiIdentifiablesClient) service).getByIdentifier(namespace, id);
+    if (identifiable == null) {
+      throw new ResourceNotFoundException("get entity by identifier with " + namespace + ":" + id);
+    }
+    remember(identifiable);
+    return doRedirect(identifiable, model);
+  }
+
+  @Override
+  protected UUID getHeadwordUuid(UUID headwordEntryUuid) throws TechnicalException {
+    return headwordEntryIndex.getHeadwordUuid(headwordEntryUuid);
+  }
 }
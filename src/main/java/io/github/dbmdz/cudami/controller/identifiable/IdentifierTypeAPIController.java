@@ -1,12 +1,11 @@
 package io.github.dbmdz.cudami.controller.identifiable;
 
 import de.digitalcollections.cudami.client.CudamiClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.IdentifierType;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,23 +26,24 @@ public class IdentifierTypeAPIController extends AbstractUniqueObjectController<
   @SuppressFBWarnings
   @GetMapping("/api/identifiertypes")
   @ResponseBody
-  public BTResponse<IdentifierType> find(
+  public Callable<BTResponse<IdentifierType>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "namespace")
           String sortProperty,
-      @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder)
-      throws TechnicalException, ServiceException {
-    // no "dataLanguage" / no multilingual fields
-    return find(
-        IdentifierType.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "namespace",
-        searchTerm,
-        null);
+      @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder) {
+    return () -> {
+      // no "dataLanguage" / no multilingual fields
+      return find(
+          IdentifierType.class,
+          offset,
+          limit,
+          sortProperty,
+          sortOrder,
+          "namespace",
+          searchTerm,
+          null);
+    };
   }
 }
@@ -5,6 +5,7 @@ import de.digitalcollections.model.exception.ResourceNotFoundException;
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.IdentifierType;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
+import io.github.dbmdz.cudami.business.identifier.IdentifierNamespaceIndex;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import java.util.UUID;
@@ -31,11 +32,16 @@ public class IdentifierTypeController extends AbstractUniqueObjectController<Ide
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IdentifierTypeController.class);
 
+  private final IdentifierNamespaceIndex identifierNamespaceIndex;
   private final MessageSource messageSource;
 
   public IdentifierTypeController(
-      CudamiClient client, LanguageService languageService, MessageSource messageSource) {
+      CudamiClient client,
+      LanguageService languageService,
+      IdentifierNamespaceIndex identifierNamespaceIndex,
+      MessageSource messageSource) {
     super(client.forIdentifierTypes(), languageService);
+    this.identifierNamespaceIndex = identifierNamespaceIndex;
     this.messageSource = messageSource;
   }
 
@@ -84,6 +90,7 @@ public class IdentifierTypeController extends AbstractUniqueObjectController<Ide
     }
     try {
       service.save(identifierType);
+      identifierNamespaceIndex.invalidate();
       LOGGER.info("Successfully saved identifier type");
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save identifier type: ", e);
@@ -119,6 +126,7 @@ public class IdentifierTypeController extends AbstractUniqueObjectController<Ide
 
     try {
       service.update(uuid, identifierType);
+      identifierNamespaceIndex.invalidate();
     } catch (TechnicalException e) {
       String message = "Cannot update identifierType with uuid=" + uuid + ": " + e;
       LOGGER.error(message, e);
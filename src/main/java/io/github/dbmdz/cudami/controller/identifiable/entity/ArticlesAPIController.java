@@ -11,6 +11,7 @@ import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -55,22 +56,29 @@ public class ArticlesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/articles")
   @ResponseBody
-  public BTResponse<Article> find(
+  public Callable<BTResponse<Article>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    return find(
-        Article.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            Article.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   @GetMapping("/api/articles/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Article getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   /*
@@ -90,7 +98,7 @@ public class ArticlesAPIController
   @PostMapping("/api/articles")
   public ResponseEntity save(@RequestBody Article article) {
     try {
-      Article articleDb = service.save(article);
+      Article articleDb = forget(null, service.save(article));
       return ResponseEntity.status(HttpStatus.CREATED).body(articleDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save article: ", e);
@@ -101,7 +109,7 @@ public class ArticlesAPIController
   @PutMapping("/api/articles/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Article article) {
     try {
-      Article articleDb = service.update(uuid, article);
+      Article articleDb = forget(uuid, service.update(uuid, article));
       return ResponseEntity.ok(articleDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save article with uuid={}", uuid, e);
@@ -43,7 +43,7 @@ public class ArticlesController extends AbstractEntitiesController<Article, Cuda
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Article article = service.getByUuid(uuid);
+    Article article = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, article.getLabel().getLocales());
 
@@ -79,7 +79,7 @@ public class ArticlesController extends AbstractEntitiesController<Article, Cuda
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Article article = service.getByUuid(uuid);
+    Article article = remember(service.getByUuid(uuid));
     if (article == null) {
       throw new ResourceNotFoundException();
     }
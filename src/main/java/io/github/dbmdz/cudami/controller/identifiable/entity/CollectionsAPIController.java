@@ -17,6 +17,7 @@ import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
@@ -93,24 +94,31 @@ public class CollectionsAPIController
    */
   @GetMapping("/api/collections/search")
   @ResponseBody
-  public PageResponse<Collection> find(
+  public Callable<PageResponse<Collection>> find(
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchField", required = false) String searchField,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException {
-    // TODO ?: add datalanguage as request param to allow search / autocompletion in selected data
-    // language
-    String dataLanguage = null;
-    PageRequest pageRequest =
-        createPageRequest(
-            Collection.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
-    PageResponse<Collection> pageResponse = search(searchField, searchTerm, pageRequest);
-    if (pageResponse == null) {
-      throw new InvalidEndpointRequestException("invalid request param", searchField);
-    }
-    return pageResponse;
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      // TODO ?: add datalanguage as request param to allow search / autocompletion in selected data
+      // language
+      String dataLanguage = null;
+      PageRequest pageRequest =
+          createPageRequest(
+              Collection.class,
+              pageNumber,
+              pageSize,
+              sortBy,
+              searchField,
+              searchTerm,
+              dataLanguage);
+      PageResponse<Collection> pageResponse = search(searchField, searchTerm, pageRequest);
+      if (pageResponse == null) {
+        throw new InvalidEndpointRequestException("invalid request param", searchField);
+      }
+      return pageResponse;
+    };
   }
 
   /*
@@ -118,28 +126,31 @@ public class CollectionsAPIController
    */
   @GetMapping("/api/collections/{uuid:" + ParameterHelper.UUID_PATTERN + "}/digitalobjects")
   @ResponseBody
-  public BTResponse<DigitalObject> findDigitalObjects(
+  public Callable<BTResponse<DigitalObject>> findDigitalObjects(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            DigitalObject.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<DigitalObject> pageResponse =
-        ((CudamiCollectionsClient) service).findDigitalObjects(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage,
+      @RequestParam(name = "cursor", required = false) String cursor) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              DigitalObject.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage,
+              cursor);
+      PageResponse<DigitalObject> pageResponse =
+          ((CudamiCollectionsClient) service).findDigitalObjects(uuid, btRequest);
+      return new BTResponse<>(pageResponse, btRequest);
+    };
   }
 
   /*
@@ -147,28 +158,29 @@ public class CollectionsAPIController
    */
   @GetMapping("/api/collections/{uuid:" + ParameterHelper.UUID_PATTERN + "}/collections")
   @ResponseBody
-  public BTResponse<Collection> findSubcollections(
+  public Callable<BTResponse<Collection>> findSubcollections(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Collection.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Collection> pageResponse =
-        ((CudamiCollectionsClient) service).findSubcollections(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Collection.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Collection> pageResponse =
+          ((CudamiCollectionsClient) service).findSubcollections(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   /*
@@ -177,27 +189,28 @@ public class CollectionsAPIController
   @SuppressFBWarnings
   @GetMapping("/api/collections")
   @ResponseBody
-  public BTResponse<Collection> findTop(
+  public Callable<BTResponse<Collection>> findTop(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Collection.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Collection> pageResponse =
-        ((CudamiCollectionsClient) service).findTopCollections(btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Collection.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Collection> pageResponse =
+          ((CudamiCollectionsClient) service).findTopCollections(btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/collections/identifier/{namespace}:{id}")
@@ -216,7 +229,7 @@ public class CollectionsAPIController
   @GetMapping("/api/collections/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Collection getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   /*
@@ -259,9 +272,12 @@ public class CollectionsAPIController
       Collection collectionDb = null;
       if ("collection".equals(parentType)) {
         collectionDb =
-            ((CudamiCollectionsClient) service).saveWithParentCollection(collection, parentUuid);
+            forget(
+                null,
+                ((CudamiCollectionsClient) service)
+                    .saveWithParentCollection(collection, parentUuid));
       } else {
-        collectionDb = service.save(collection);
+        collectionDb = forget(null, service.save(collection));
       }
       return ResponseEntity.status(HttpStatus.CREATED).body(collectionDb);
     } catch (TechnicalException e) {
@@ -273,7 +289,7 @@ public class CollectionsAPIController
   @PutMapping("/api/collections/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Collection collection) {
     try {
-      Collection collectionDb = service.update(uuid, collection);
+      Collection collectionDb = forget(uuid, service.update(uuid, collection));
       return ResponseEntity.ok(collectionDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save collection with uuid={}", uuid, e);
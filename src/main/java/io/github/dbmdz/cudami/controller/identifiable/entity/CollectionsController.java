@@ -8,6 +8,9 @@ import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.Collection;
 import de.digitalcollections.model.view.BreadcrumbNavigation;
 import de.digitalcollections.model.view.BreadcrumbNode;
+import io.github.dbmdz.cudami.backend.BackendCallScope;
+import io.github.dbmdz.cudami.backend.BackendCallScope.Fork;
+import io.github.dbmdz.cudami.backend.BackendCalls;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import java.util.List;
@@ -30,8 +33,12 @@ public class CollectionsController
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CollectionsController.class);
 
-  public CollectionsController(CudamiClient client, LanguageService languageService) {
+  private final BackendCalls backendCalls;
+
+  public CollectionsController(
+      CudamiClient client, LanguageService languageService, BackendCalls backendCalls) {
     super(client.forCollections(), client, languageService);
+    this.backendCalls = backendCalls;
   }
 
   @GetMapping("/collections/new")
@@ -53,7 +60,7 @@ public class CollectionsController
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Collection collection = service.getByUuid(uuid);
+    Collection collection = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, collection.getLabel().getLocales());
 
@@ -92,33 +99,43 @@ public class CollectionsController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Collection collection = service.getByUuid(uuid);
-    if (collection == null) {
-      throw new ResourceNotFoundException();
+    CudamiCollectionsClient client = (CudamiCollectionsClient) service;
+    try (BackendCallScope calls = backendCalls.open()) {
+      // parents and breadcrumbs do not depend on the collection, so fetch them at the same time
+      Fork<Collection> collectionCall =
+          calls.fork("collection", () -> remember(service.getByUuid(uuid)));
+      Fork<List<Collection>> parentsCall = calls.fork("parents", () -> client.getParents(uuid));
+      Fork<BreadcrumbNavigation> breadcrumbsCall =
+          calls.fork("breadcrumbs", () -> client.getBreadcrumbNavigation(uuid));
+
+      Collection collection = collectionCall.join();
+      if (collection == null) {
+        throw new ResourceNotFoundException();
+      }
+      model.addAttribute("collection", collection);
+
+      List<Locale> existingLanguages = getExistingLanguagesFromIdentifiable(collection);
+      String dataLanguage = getDataLanguage(targetDataLanguage, existingLanguages, languageService);
+      model
+          .addAttribute("existingLanguages", existingLanguages)
+          .addAttribute("dataLanguage", dataLanguage);
+
+      List<Locale> existingSubcollectionsLanguages =
+          getExistingLanguagesFromIdentifiables(collection.getChildren());
+      String dataLanguageSubcollections =
+          getDataLanguage(targetDataLanguage, existingSubcollectionsLanguages, languageService);
+      model
+          .addAttribute("existingSubcollectionsLanguages", existingSubcollectionsLanguages)
+          .addAttribute("dataLanguageSubcollections", dataLanguageSubcollections);
+
+      List<Collection> parents = parentsCall.joinOrElse(List.of());
+      model.addAttribute("parents", parents);
+
+      BreadcrumbNavigation breadcrumbNavigation = breadcrumbsCall.joinOrElse(null);
+      List<BreadcrumbNode> breadcrumbs =
+          breadcrumbNavigation != null ? breadcrumbNavigation.getNavigationItems() : List.of();
+      model.addAttribute("breadcrumbs", breadcrumbs);
     }
-    model.addAttribute("collection", collection);
-
-    List<Locale> existingLanguages = getExistingLanguagesFromIdentifiable(collection);
-    String dataLanguage = getDataLanguage(targetDataLanguage, existingLanguages, languageService);
-    model
-        .addAttribute("existingLanguages", existingLanguages)
-        .addAttribute("dataLanguage", dataLanguage);
-
-    List<Locale> existingSubcollectionsLanguages =
-        getExistingLanguagesFromIdentifiables(collection.getChildren());
-    String dataLanguageSubcollections =
-        getDataLanguage(targetDataLanguage, existingSubcollectionsLanguages, languageService);
-    model
-        .addAttribute("existingSubcollectionsLanguages", existingSubcollectionsLanguages)
-        .addAttribute("dataLanguageSubcollections", dataLanguageSubcollections);
-
-    List<Collection> parents = ((CudamiCollectionsClient) service).getParents(uuid);
-    model.addAttribute("parents", parents);
-
-    BreadcrumbNavigation breadcrumbNavigation =
-        ((CudamiCollectionsClient) service).getBreadcrumbNavigation(uuid);
-    List<BreadcrumbNode> breadcrumbs = breadcrumbNavigation.getNavigationItems();
-    model.addAttribute("breadcrumbs", breadcrumbs);
 
     return "collections/view";
   }
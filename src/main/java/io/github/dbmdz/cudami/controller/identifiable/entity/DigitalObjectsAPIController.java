@@ -18,6 +18,7 @@ import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
@@ -45,52 +46,55 @@ public class DigitalObjectsAPIController
    */
   @GetMapping("/api/digitalobjects/search")
   @ResponseBody
-  public PageResponse<DigitalObject> find(
+  public Callable<PageResponse<DigitalObject>> find(
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchField", required = false) String searchField,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException {
-    // TODO ?: add datalanguage as request param to allow search / autocompletion in
-    // selected data language
-    String dataLanguage = null;
-    PageRequest pageRequest =
-        createPageRequest(
-            DigitalObject.class,
-            pageNumber,
-            pageSize,
-            sortBy,
-            searchField,
-            searchTerm,
-            dataLanguage);
-    PageResponse<DigitalObject> pageResponse = search(searchField, searchTerm, pageRequest);
-    if (pageResponse == null) {
-      throw new InvalidEndpointRequestException("invalid request param", searchField);
-    }
-    return pageResponse;
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      // TODO ?: add datalanguage as request param to allow search / autocompletion in
+      // selected data language
+      String dataLanguage = null;
+      PageRequest pageRequest =
+          createPageRequest(
+              DigitalObject.class,
+              pageNumber,
+              pageSize,
+              sortBy,
+              searchField,
+              searchTerm,
+              dataLanguage);
+      PageResponse<DigitalObject> pageResponse = search(searchField, searchTerm, pageRequest);
+      if (pageResponse == null) {
+        throw new InvalidEndpointRequestException("invalid request param", searchField);
+      }
+      return pageResponse;
+    };
   }
 
   @SuppressFBWarnings
   @GetMapping("/api/digitalobjects")
   @ResponseBody
-  public BTResponse<DigitalObject> find(
+  public Callable<BTResponse<DigitalObject>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    return find(
-        DigitalObject.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "label",
-        searchTerm,
-        dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage,
+      @RequestParam(name = "cursor", required = false) String cursor) {
+    return () ->
+        find(
+            DigitalObject.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage,
+            cursor);
   }
 
   @GetMapping(
@@ -151,29 +155,32 @@ public class DigitalObjectsAPIController
 
   @GetMapping("/api/digitalobjects/{uuid:" + ParameterHelper.UUID_PATTERN + "}/digitalobjects")
   @ResponseBody
-  public BTResponse<DigitalObject> findContainedDigitalObjects(
+  public Callable<BTResponse<DigitalObject>> findContainedDigitalObjects(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            DigitalObject.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<DigitalObject> pageResponse =
-        ((CudamiDigitalObjectsClient) service)
-            .getAllForParent(DigitalObject.builder().uuid(uuid).build(), btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage,
+      @RequestParam(name = "cursor", required = false) String cursor) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              DigitalObject.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage,
+              cursor);
+      PageResponse<DigitalObject> pageResponse =
+          ((CudamiDigitalObjectsClient) service)
+              .getAllForParent(DigitalObject.builder().uuid(uuid).build(), btRequest);
+      return new BTResponse<>(pageResponse, btRequest);
+    };
   }
 
   @GetMapping("/api/digitalobjects/identifier/{namespace}:{id}")
@@ -192,6 +199,6 @@ public class DigitalObjectsAPIController
   @GetMapping("/api/digitalobjects/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public DigitalObject getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 }
@@ -48,7 +48,7 @@ public class DigitalObjectsController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    DigitalObject digitalObject = service.getByUuid(uuid);
+    DigitalObject digitalObject = remember(service.getByUuid(uuid));
     if (digitalObject == null) {
       throw new ResourceNotFoundException();
     }
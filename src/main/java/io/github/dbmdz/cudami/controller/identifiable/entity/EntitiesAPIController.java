@@ -2,13 +2,13 @@ package io.github.dbmdz.cudami.controller.identifiable.entity;
 
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.identifiable.entity.CudamiEntitiesClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.Entity;
 import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.list.sorting.Order;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import java.util.List;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
@@ -34,23 +34,24 @@ public class EntitiesAPIController
    */
   @GetMapping("/api/entities/search")
   @ResponseBody
-  public PageResponse<Entity> find(
+  public Callable<PageResponse<Entity>> find(
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchField", required = false) String searchField,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException {
-    // TODO ?: add datalanguage as request param to allow search / autocompletion in
-    // selected data language
-    String dataLanguage = null;
-    PageRequest pageRequest =
-        createPageRequest(
-            Entity.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
-    PageResponse<Entity> pageResponse = search(searchField, searchTerm, pageRequest);
-    if (pageResponse == null) {
-      throw new InvalidEndpointRequestException("invalid request param", searchField);
-    }
-    return pageResponse;
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      // TODO ?: add datalanguage as request param to allow search / autocompletion in
+      // selected data language
+      String dataLanguage = null;
+      PageRequest pageRequest =
+          createPageRequest(
+              Entity.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
+      PageResponse<Entity> pageResponse = search(searchField, searchTerm, pageRequest);
+      if (pageResponse == null) {
+        throw new InvalidEndpointRequestException("invalid request param", searchField);
+      }
+      return pageResponse;
+    };
   }
 }
@@ -5,6 +5,7 @@ import de.digitalcollections.cudami.client.identifiable.entity.CudamiEntitiesCli
 import de.digitalcollections.model.exception.ResourceNotFoundException;
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.Entity;
+import io.github.dbmdz.cudami.business.headword.HeadwordEntryIndex;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import java.util.UUID;
@@ -17,14 +18,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class EntitiesController
     extends AbstractEntitiesController<Entity, CudamiEntitiesClient<Entity>> {
 
-  public EntitiesController(CudamiClient cudamiClient, LanguageService languageService) {
+  private final HeadwordEntryIndex headwordEntryIndex;
+
+  public EntitiesController(
+      CudamiClient cudamiClient,
+      LanguageService languageService,
+      HeadwordEntryIndex headwordEntryIndex) {
     super(cudamiClient.forEntities(), cudamiClient, languageService);
+    this.headwordEntryIndex = headwordEntryIndex;
   }
 
   @GetMapping("/entities/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public String view(@PathVariable UUID uuid, Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Entity entity = service.getByUuid(uuid);
+    Entity entity = remember(service.getByUuid(uuid));
     if (entity == null) {
       throw new ResourceNotFoundException();
     }
@@ -34,10 +41,15 @@ public class EntitiesController
   @GetMapping("/entities/{uuid:" + ParameterHelper.UUID_PATTERN + "}/edit")
   public String edit(@PathVariable UUID uuid, Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Entity entity = service.getByUuid(uuid);
+    Entity entity = remember(service.getByUuid(uuid));
     if (entity == null) {
       throw new ResourceNotFoundException();
     }
     return doForward(entity, model) + "/edit";
   }
+
+  @Override
+  protected UUID getHeadwordUuid(UUID headwordEntryUuid) throws TechnicalException {
+    return headwordEntryIndex.getHeadwordUuid(headwordEntryUuid);
+  }
 }
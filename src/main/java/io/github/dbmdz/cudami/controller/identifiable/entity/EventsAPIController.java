@@ -5,11 +5,11 @@ import de.digitalcollections.cudami.client.identifiable.entity.CudamiEventsClien
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.Event;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -30,21 +30,21 @@ public class EventsAPIController extends AbstractEntitiesController<Event, Cudam
   @SuppressFBWarnings
   @GetMapping("/api/events")
   @ResponseBody
-  public BTResponse<Event> find(
+  public Callable<BTResponse<Event>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Event.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            Event.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
   }
 
   @GetMapping("/api/events/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Event getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 }
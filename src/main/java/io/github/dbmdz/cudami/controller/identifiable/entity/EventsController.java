@@ -39,7 +39,7 @@ public class EventsController extends AbstractEntitiesController<Event, CudamiEv
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Event event = service.getByUuid(uuid);
+    Event event = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, event.getLabel().getLocales());
 
@@ -75,7 +75,7 @@ public class EventsController extends AbstractEntitiesController<Event, CudamiEv
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Event event = service.getByUuid(uuid);
+    Event event = remember(service.getByUuid(uuid));
     if (event == null) {
       throw new ResourceNotFoundException();
     }
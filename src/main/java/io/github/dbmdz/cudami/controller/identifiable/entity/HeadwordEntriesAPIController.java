@@ -6,10 +6,12 @@ import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.HeadwordEntry;
 import de.digitalcollections.model.relation.Predicate;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.github.dbmdz.cudami.business.headword.HeadwordEntryIndex;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -30,8 +32,12 @@ public class HeadwordEntriesAPIController
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HeadwordEntriesAPIController.class);
 
-  public HeadwordEntriesAPIController(CudamiClient client, LanguageService languageService) {
+  private final HeadwordEntryIndex headwordEntryIndex;
+
+  public HeadwordEntriesAPIController(
+      CudamiClient client, LanguageService languageService, HeadwordEntryIndex headwordEntryIndex) {
     super(client.forHeadwordEntries(), client, languageService);
+    this.headwordEntryIndex = headwordEntryIndex;
   }
 
   @GetMapping("/api/headwordentries/new")
@@ -43,28 +49,40 @@ public class HeadwordEntriesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/headwordentries")
   @ResponseBody
-  public BTResponse<HeadwordEntry> find(
+  public Callable<BTResponse<HeadwordEntry>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    return find(
-        Predicate.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTResponse<HeadwordEntry> response =
+          find(
+              Predicate.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      headwordEntryIndex.putAll(response.getRows());
+      return response;
+    };
   }
 
   @GetMapping("/api/headwordentries/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public HeadwordEntry getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/headwordentries")
   public ResponseEntity save(@RequestBody HeadwordEntry headwordEntry) {
     try {
-      HeadwordEntry headwordEntryDb = service.save(headwordEntry);
+      HeadwordEntry headwordEntryDb = forget(null, service.save(headwordEntry));
+      headwordEntryIndex.put(headwordEntryDb);
       return ResponseEntity.status(HttpStatus.CREATED).body(headwordEntryDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save headwordEntry: ", e);
@@ -75,7 +93,8 @@ public class HeadwordEntriesAPIController
   @PutMapping("/api/headwordentries/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody HeadwordEntry headwordEntry) {
     try {
-      HeadwordEntry headwordEntryDb = service.update(uuid, headwordEntry);
+      HeadwordEntry headwordEntryDb = forget(uuid, service.update(uuid, headwordEntry));
+      headwordEntryIndex.put(headwordEntryDb);
       return ResponseEntity.ok(headwordEntryDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save headwordEntry with uuid={}", uuid, e);
@@ -44,7 +44,7 @@ public class HeadwordEntriesController
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    HeadwordEntry headwordEntry = service.getByUuid(uuid);
+    HeadwordEntry headwordEntry = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, headwordEntry.getLabel().getLocales());
 
@@ -80,7 +80,7 @@ public class HeadwordEntriesController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    HeadwordEntry headwordEntry = service.getByUuid(uuid);
+    HeadwordEntry headwordEntry = remember(service.getByUuid(uuid));
     if (headwordEntry == null) {
       throw new ResourceNotFoundException();
     }
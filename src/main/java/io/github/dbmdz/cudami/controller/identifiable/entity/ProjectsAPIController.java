@@ -8,13 +8,13 @@ import de.digitalcollections.model.identifiable.entity.digitalobject.DigitalObje
 import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.relation.Predicate;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -63,16 +63,23 @@ public class ProjectsAPIController
   @SuppressFBWarnings
   @GetMapping("/api/projects")
   @ResponseBody
-  public BTResponse<Project> find(
+  public Callable<BTResponse<Project>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Predicate.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            Predicate.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   /*
@@ -80,34 +87,37 @@ public class ProjectsAPIController
    */
   @GetMapping("/api/projects/{uuid:" + ParameterHelper.UUID_PATTERN + "}/digitalobjects")
   @ResponseBody
-  public BTResponse<DigitalObject> findDigitalObjects(
+  public Callable<BTResponse<DigitalObject>> findDigitalObjects(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            DigitalObject.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<DigitalObject> pageResponse =
-        ((CudamiProjectsClient) service).findDigitalObjects(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage,
+      @RequestParam(name = "cursor", required = false) String cursor) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              DigitalObject.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage,
+              cursor);
+      PageResponse<DigitalObject> pageResponse =
+          ((CudamiProjectsClient) service).findDigitalObjects(uuid, btRequest);
+      return new BTResponse<>(pageResponse, btRequest);
+    };
   }
 
   @GetMapping("/api/projects/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Project getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   /*
@@ -129,7 +139,7 @@ public class ProjectsAPIController
   @PostMapping("/api/projects")
   public ResponseEntity save(@RequestBody Project project) {
     try {
-      Project projectDb = service.save(project);
+      Project projectDb = forget(null, service.save(project));
       return ResponseEntity.status(HttpStatus.CREATED).body(projectDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save project: ", e);
@@ -140,7 +150,7 @@ public class ProjectsAPIController
   @PutMapping("/api/projects/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Project project) {
     try {
-      Project projectDb = service.update(uuid, project);
+      Project projectDb = forget(uuid, service.update(uuid, project));
       return ResponseEntity.ok(projectDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save project with uuid={}", uuid, e);
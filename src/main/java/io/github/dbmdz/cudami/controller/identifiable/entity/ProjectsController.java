@@ -43,7 +43,7 @@ public class ProjectsController extends AbstractEntitiesController<Project, Cuda
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Project project = service.getByUuid(uuid);
+    Project project = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, project.getLabel().getLocales());
 
@@ -79,7 +79,7 @@ public class ProjectsController extends AbstractEntitiesController<Project, Cuda
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Project project = service.getByUuid(uuid);
+    Project project = remember(service.getByUuid(uuid));
     if (project == null) {
       throw new ResourceNotFoundException();
     }
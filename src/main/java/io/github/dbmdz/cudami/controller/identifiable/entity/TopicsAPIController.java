@@ -14,6 +14,7 @@ import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -67,97 +68,115 @@ public class TopicsAPIController extends AbstractEntitiesController<Topic, Cudam
 
   @GetMapping("/api/topics/{uuid:" + ParameterHelper.UUID_PATTERN + "}/entities")
   @ResponseBody
-  public BTResponse<Entity> findEntities(
+  public Callable<BTResponse<Entity>> findEntities(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Entity.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Entity> pageResponse =
-        ((CudamiTopicsClient) service).findEntities(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Entity.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Entity> pageResponse =
+          ((CudamiTopicsClient) service).findEntities(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/topics/{uuid:" + ParameterHelper.UUID_PATTERN + "}/fileresources")
   @ResponseBody
-  public BTResponse<FileResource> findFileResources(
+  public Callable<BTResponse<FileResource>> findFileResources(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            FileResource.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<FileResource> pageResponse =
-        ((CudamiTopicsClient) service).findFileResources(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              FileResource.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<FileResource> pageResponse =
+          ((CudamiTopicsClient) service).findFileResources(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/topics/{uuid:" + ParameterHelper.UUID_PATTERN + "}/topics")
   @ResponseBody
-  public BTResponse<Topic> findSubtopics(
+  public Callable<BTResponse<Topic>> findSubtopics(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Topic.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
-    PageResponse<Topic> pageResponse =
-        ((CudamiTopicsClient) service).findSubtopics(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Topic.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Topic> pageResponse =
+          ((CudamiTopicsClient) service).findSubtopics(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @SuppressFBWarnings
   @GetMapping("/api/topics")
   @ResponseBody
-  public BTResponse<Topic> findTopTopics(
+  public Callable<BTResponse<Topic>> findTopTopics(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Topic.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
-    PageResponse<Topic> pageResponse = ((CudamiTopicsClient) service).findTopTopics(btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Topic.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Topic> pageResponse = ((CudamiTopicsClient) service).findTopTopics(btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/topics/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Topic getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   /*
@@ -196,9 +215,10 @@ public class TopicsAPIController extends AbstractEntitiesController<Topic, Cudam
     try {
       Topic topicDb = null;
       if (parentUuid == null) {
-        topicDb = service.save(topic);
+        topicDb = forget(null, service.save(topic));
       } else {
-        topicDb = ((CudamiTopicsClient) service).saveWithParentTopic(topic, parentUuid);
+        topicDb =
+            forget(null, ((CudamiTopicsClient) service).saveWithParentTopic(topic, parentUuid));
       }
       return ResponseEntity.status(HttpStatus.CREATED).body(topicDb);
     } catch (TechnicalException e) {
@@ -210,7 +230,7 @@ public class TopicsAPIController extends AbstractEntitiesController<Topic, Cudam
   @PutMapping("/api/topics/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Topic topic) {
     try {
-      Topic topicDb = service.update(uuid, topic);
+      Topic topicDb = forget(uuid, service.update(uuid, topic));
       return ResponseEntity.ok(topicDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save topic with uuid={}", uuid, e);
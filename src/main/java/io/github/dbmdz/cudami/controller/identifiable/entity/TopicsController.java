@@ -52,7 +52,7 @@ public class TopicsController extends AbstractEntitiesController<Topic, CudamiTo
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Topic topic = service.getByUuid(uuid);
+    Topic topic = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, topic.getLabel().getLocales());
 
@@ -91,7 +91,7 @@ public class TopicsController extends AbstractEntitiesController<Topic, CudamiTo
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Topic topic = service.getByUuid(uuid);
+    Topic topic = remember(service.getByUuid(uuid));
     if (topic == null) {
       throw new ResourceNotFoundException();
     }
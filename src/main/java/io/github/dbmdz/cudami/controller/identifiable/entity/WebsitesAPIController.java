@@ -7,13 +7,13 @@ import de.digitalcollections.model.identifiable.entity.Website;
 import de.digitalcollections.model.identifiable.web.Webpage;
 import de.digitalcollections.model.list.paging.PageResponse;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -47,54 +47,62 @@ public class WebsitesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/websites")
   @ResponseBody
-  public BTResponse<Website> find(
+  public Callable<BTResponse<Website>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Website.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            Website.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   @GetMapping("/api/websites/{uuid:" + ParameterHelper.UUID_PATTERN + "}/webpages")
   @ResponseBody
-  public BTResponse<Webpage> findRootpages(
+  public Callable<BTResponse<Webpage>> findRootpages(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false) String sortProperty,
       @RequestParam(name = "order", required = false) String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Webpage.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Webpage> pageResponse =
-        ((CudamiWebsitesClient) service).findRootWebpages(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Webpage.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Webpage> pageResponse =
+          ((CudamiWebsitesClient) service).findRootWebpages(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/websites/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Website getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/websites")
   public ResponseEntity save(@RequestBody Website website) {
     try {
-      Website websiteDb = service.save(website);
+      Website websiteDb = forget(null, service.save(website));
       return ResponseEntity.status(HttpStatus.CREATED).body(websiteDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save website: ", e);
@@ -105,7 +113,7 @@ public class WebsitesAPIController
   @PutMapping("/api/websites/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Website website) {
     try {
-      Website websiteDb = service.update(uuid, website);
+      Website websiteDb = forget(uuid, service.update(uuid, website));
       return ResponseEntity.ok(websiteDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save website with uuid={}", uuid, e);
@@ -78,7 +78,7 @@ public class WebsitesController extends AbstractEntitiesController<Website, Cuda
       throws TechnicalException {
     if (useReact) {
       final Locale displayLocale = LocaleContextHolder.getLocale();
-      Website website = service.getByUuid(uuid);
+      Website website = remember(service.getByUuid(uuid));
       List<Locale> existingLanguages =
           languageService.sortLanguages(displayLocale, website.getLabel().getLocales());
 
@@ -93,7 +93,7 @@ public class WebsitesController extends AbstractEntitiesController<Website, Cuda
 
       return "websites/edit";
     } else {
-      Website website = service.getByUuid(uuid);
+      Website website = remember(service.getByUuid(uuid));
       model.addAttribute("website", website);
 
       List<Locale> existingLanguages =
@@ -146,7 +146,7 @@ public class WebsitesController extends AbstractEntitiesController<Website, Cuda
       return "websites/create-or-edit";
     }
     try {
-      service.save(website);
+      forget(null, service.save(website));
       LOGGER.info("Successfully saved website");
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save website: ", e);
@@ -201,7 +201,7 @@ public class WebsitesController extends AbstractEntitiesController<Website, Cuda
       return "websites/create-or-edit";
     }
     try {
-      service.update(uuid, website);
+      forget(uuid, service.update(uuid, website));
     } catch (TechnicalException e) {
       String message = "Cannot update website with uuid=" + uuid + ": " + e;
       LOGGER.error(message, e);
@@ -223,7 +223,7 @@ public class WebsitesController extends AbstractEntitiesController<Website, Cuda
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Website website = service.getByUuid(uuid);
+    Website website = remember(service.getByUuid(uuid));
     if (website == null) {
       throw new ResourceNotFoundException();
     }
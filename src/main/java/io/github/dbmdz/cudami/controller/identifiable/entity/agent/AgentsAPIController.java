@@ -2,7 +2,6 @@ package io.github.dbmdz.cudami.controller.identifiable.entity.agent;
 
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.identifiable.entity.agent.CudamiAgentsClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.agent.Agent;
 import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.paging.PageResponse;
@@ -10,6 +9,7 @@ import de.digitalcollections.model.list.sorting.Order;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
 import java.util.List;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
@@ -34,23 +34,24 @@ public class AgentsAPIController extends AbstractEntitiesController<Agent, Cudam
    */
   @GetMapping("/api/agents/search")
   @ResponseBody
-  public PageResponse<Agent> find(
+  public Callable<PageResponse<Agent>> find(
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchField", required = false) String searchField,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException {
-    // TODO ?: add datalanguage as request param to allow search / autocompletion in
-    // selected data language
-    String dataLanguage = null;
-    PageRequest pageRequest =
-        createPageRequest(
-            Agent.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
-    PageResponse<Agent> pageResponse = search(searchField, searchTerm, pageRequest);
-    if (pageResponse == null) {
-      throw new InvalidEndpointRequestException("invalid request param", searchField);
-    }
-    return pageResponse;
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      // TODO ?: add datalanguage as request param to allow search / autocompletion in
+      // selected data language
+      String dataLanguage = null;
+      PageRequest pageRequest =
+          createPageRequest(
+              Agent.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
+      PageResponse<Agent> pageResponse = search(searchField, searchTerm, pageRequest);
+      if (pageResponse == null) {
+        throw new InvalidEndpointRequestException("invalid request param", searchField);
+      }
+      return pageResponse;
+    };
   }
 }
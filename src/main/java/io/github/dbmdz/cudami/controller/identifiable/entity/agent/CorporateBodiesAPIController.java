@@ -5,12 +5,12 @@ import de.digitalcollections.cudami.client.identifiable.entity.agent.CudamiCorpo
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.agent.CorporateBody;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -44,35 +44,35 @@ public class CorporateBodiesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/corporatebodies")
   @ResponseBody
-  public BTResponse<CorporateBody> find(
+  public Callable<BTResponse<CorporateBody>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        CorporateBody.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "label",
-        searchTerm,
-        dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            CorporateBody.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   @GetMapping("/api/corporatebodies/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public CorporateBody getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/corporatebodies")
   public ResponseEntity save(@RequestBody CorporateBody corporateBody) {
     try {
-      CorporateBody corporateBodyDb = service.save(corporateBody);
+      CorporateBody corporateBodyDb = forget(null, service.save(corporateBody));
       return ResponseEntity.status(HttpStatus.CREATED).body(corporateBodyDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save corporate body: ", e);
@@ -83,7 +83,7 @@ public class CorporateBodiesAPIController
   @PutMapping("/api/corporatebodies/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody CorporateBody corporateBody) {
     try {
-      CorporateBody corporateBodyDb = service.update(uuid, corporateBody);
+      CorporateBody corporateBodyDb = forget(uuid, service.update(uuid, corporateBody));
       return ResponseEntity.ok(corporateBodyDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save corporate body with uuid={}", uuid, e);
@@ -45,7 +45,7 @@ public class CorporateBodiesController
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    CorporateBody corporateBody = service.getByUuid(uuid);
+    CorporateBody corporateBody = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, corporateBody.getLabel().getLocales());
 
@@ -81,7 +81,7 @@ public class CorporateBodiesController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    CorporateBody corporateBody = service.getByUuid(uuid);
+    CorporateBody corporateBody = remember(service.getByUuid(uuid));
     if (corporateBody == null) {
       throw new ResourceNotFoundException();
     }
@@ -5,12 +5,12 @@ import de.digitalcollections.cudami.client.identifiable.agent.CudamiFamilyNamesC
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.agent.FamilyName;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.AbstractIdentifiablesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -44,35 +44,35 @@ public class FamilynamesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/familynames")
   @ResponseBody
-  public BTResponse<FamilyName> find(
+  public Callable<BTResponse<FamilyName>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        FamilyName.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "label",
-        searchTerm,
-        dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            FamilyName.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   @GetMapping("/api/familynames/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public FamilyName getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/familynames")
   public ResponseEntity save(@RequestBody FamilyName familyName) {
     try {
-      FamilyName familyNameDb = service.save(familyName);
+      FamilyName familyNameDb = forget(null, service.save(familyName));
       return ResponseEntity.status(HttpStatus.CREATED).body(familyNameDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save family name: ", e);
@@ -83,7 +83,7 @@ public class FamilynamesAPIController
   @PutMapping("/api/familynames/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody FamilyName familyName) {
     try {
-      FamilyName familyNameDb = service.update(uuid, familyName);
+      FamilyName familyNameDb = forget(uuid, service.update(uuid, familyName));
       return ResponseEntity.ok(familyNameDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save family name with uuid={}", uuid, e);
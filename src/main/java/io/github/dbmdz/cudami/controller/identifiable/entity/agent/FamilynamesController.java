@@ -76,7 +76,7 @@ public class FamilynamesController
       @RequestParam(name = "activeLanguage", required = false) Locale activeLanguage,
       Model model)
       throws TechnicalException {
-    FamilyName familyName = service.getByUuid(uuid);
+    FamilyName familyName = remember(service.getByUuid(uuid));
     model.addAttribute("familyName", familyName);
 
     List<Locale> existingLanguages =
@@ -147,7 +147,7 @@ public class FamilynamesController
     }
     FamilyName familyNameDB = null;
     try {
-      familyNameDB = service.save(familyName);
+      familyNameDB = forget(null, service.save(familyName));
       LOGGER.info("Successfully saved familyName");
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save familyName: ", e);
@@ -203,7 +203,7 @@ public class FamilynamesController
     }
 
     try {
-      service.update(pathUuid, familyName);
+      forget(pathUuid, service.update(pathUuid, familyName));
     } catch (TechnicalException e) {
       String message = "Cannot update familyName with uuid=" + pathUuid + ": " + e;
       LOGGER.error(message, e);
@@ -225,7 +225,7 @@ public class FamilynamesController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    FamilyName familyName = service.getByUuid(uuid);
+    FamilyName familyName = remember(service.getByUuid(uuid));
     if (familyName == null) {
       throw new ResourceNotFoundException();
     }
@@ -5,12 +5,12 @@ import de.digitalcollections.cudami.client.identifiable.agent.CudamiGivenNamesCl
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.agent.GivenName;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.AbstractIdentifiablesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -44,28 +44,35 @@ public class GivennamesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/givennames")
   @ResponseBody
-  public BTResponse<GivenName> find(
+  public Callable<BTResponse<GivenName>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        GivenName.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            GivenName.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   @GetMapping("/api/givennames/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public GivenName getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/givennames")
   public ResponseEntity save(@RequestBody GivenName givenName) {
     try {
-      GivenName givenNameDb = service.save(givenName);
+      GivenName givenNameDb = forget(null, service.save(givenName));
       return ResponseEntity.status(HttpStatus.CREATED).body(givenNameDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save given name: ", e);
@@ -76,7 +83,7 @@ public class GivennamesAPIController
   @PutMapping("/api/givennames/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody GivenName givenName) {
     try {
-      GivenName givenNameDb = service.update(uuid, givenName);
+      GivenName givenNameDb = forget(uuid, service.update(uuid, givenName));
       return ResponseEntity.ok(givenNameDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save given name with uuid={}", uuid, e);
@@ -76,7 +76,7 @@ public class GivennamesController
       @RequestParam(name = "activeLanguage", required = false) Locale activeLanguage,
       Model model)
       throws TechnicalException {
-    GivenName givenName = service.getByUuid(uuid);
+    GivenName givenName = remember(service.getByUuid(uuid));
     model.addAttribute("givenName", givenName);
 
     List<Locale> existingLanguages =
@@ -147,7 +147,7 @@ public class GivennamesController
     }
     GivenName givenNameDB = null;
     try {
-      givenNameDB = service.save(givenName);
+      givenNameDB = forget(null, service.save(givenName));
       LOGGER.info("Successfully saved givenName");
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save givenName: ", e);
@@ -203,7 +203,7 @@ public class GivennamesController
     }
 
     try {
-      service.update(pathUuid, givenName);
+      forget(pathUuid, service.update(pathUuid, givenName));
     } catch (TechnicalException e) {
       String message = "Cannot update givenName with uuid=" + pathUuid + ": " + e;
       LOGGER.error(message, e);
@@ -225,7 +225,7 @@ public class GivennamesController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    GivenName givenName = service.getByUuid(uuid);
+    GivenName givenName = remember(service.getByUuid(uuid));
     if (givenName == null) {
       throw new ResourceNotFoundException();
     }
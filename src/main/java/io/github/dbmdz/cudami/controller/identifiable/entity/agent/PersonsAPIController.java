@@ -5,12 +5,12 @@ import de.digitalcollections.cudami.client.identifiable.entity.agent.CudamiPerso
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.agent.Person;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -43,28 +43,35 @@ public class PersonsAPIController extends AbstractEntitiesController<Person, Cud
   @SuppressFBWarnings
   @GetMapping("/api/persons")
   @ResponseBody
-  public BTResponse<Person> find(
+  public Callable<BTResponse<Person>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Person.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            Person.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   @GetMapping("/api/persons/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Person getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/persons")
   public ResponseEntity save(@RequestBody Person person) {
     try {
-      Person personDb = service.save(person);
+      Person personDb = forget(null, service.save(person));
       return ResponseEntity.status(HttpStatus.CREATED).body(personDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save person: ", e);
@@ -75,7 +82,7 @@ public class PersonsAPIController extends AbstractEntitiesController<Person, Cud
   @PutMapping("/api/persons/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Person person) {
     try {
-      Person personDb = service.update(uuid, person);
+      Person personDb = forget(uuid, service.update(uuid, person));
       return ResponseEntity.ok(personDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save person with uuid={}", uuid, e);
@@ -44,7 +44,7 @@ public class PersonsController extends AbstractEntitiesController<Person, Cudami
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Person person = service.getByUuid(uuid);
+    Person person = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, person.getLabel().getLocales());
 
@@ -80,7 +80,7 @@ public class PersonsController extends AbstractEntitiesController<Person, Cudami
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Person person = service.getByUuid(uuid);
+    Person person = remember(service.getByUuid(uuid));
     if (person == null) {
       throw new ResourceNotFoundException();
     }
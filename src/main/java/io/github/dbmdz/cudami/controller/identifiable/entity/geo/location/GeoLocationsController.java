@@ -52,7 +52,7 @@ public class GeoLocationsController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    GeoLocation geoLocation = service.getByUuid(uuid);
+    GeoLocation geoLocation = remember(service.getByUuid(uuid));
     if (geoLocation == null) {
       throw new ResourceNotFoundException();
     }
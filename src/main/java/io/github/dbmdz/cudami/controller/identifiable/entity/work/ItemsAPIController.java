@@ -2,18 +2,17 @@ package io.github.dbmdz.cudami.controller.identifiable.entity.work;
 
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.identifiable.entity.work.CudamiItemsClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.digitalobject.DigitalObject;
 import de.digitalcollections.model.identifiable.entity.item.Item;
 import de.digitalcollections.model.list.paging.PageResponse;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.springframework.web.bind.annotation.*;
 
 /** Controller for all public "Items" endpoints (API). */
@@ -27,68 +26,69 @@ public class ItemsAPIController extends AbstractEntitiesController<Item, CudamiI
   @SuppressFBWarnings
   @GetMapping("/api/items")
   @ResponseBody
-  public BTResponse<Item> find(
+  public Callable<BTResponse<Item>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Item.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(Item.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
   }
 
   @GetMapping("/api/items/{uuid:" + ParameterHelper.UUID_PATTERN + "}/digitalobjects")
   @ResponseBody
-  public BTResponse<DigitalObject> findDigitalObjects(
+  public Callable<BTResponse<DigitalObject>> findDigitalObjects(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            DigitalObject.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<DigitalObject> pageResponse =
-        ((CudamiItemsClient) service).findDigitalObjects(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              DigitalObject.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<DigitalObject> pageResponse =
+          ((CudamiItemsClient) service).findDigitalObjects(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/items/{uuid:" + ParameterHelper.UUID_PATTERN + "}/children")
   @ResponseBody
-  public BTResponse<Item> findEmbeddedItems(
+  public Callable<BTResponse<Item>> findEmbeddedItems(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    Item parentItem = Item.builder().uuid(uuid).build();
-    BTRequest btRequest =
-        createBTRequest(
-            DigitalObject.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Item> pageResponse =
-        ((CudamiItemsClient) service).getAllForParent(parentItem, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      Item parentItem = Item.builder().uuid(uuid).build();
+      BTRequest btRequest =
+          createBTRequest(
+              DigitalObject.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Item> pageResponse =
+          ((CudamiItemsClient) service).getAllForParent(parentItem, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 }
@@ -51,7 +51,7 @@ public class ItemsController extends AbstractEntitiesController<Item, CudamiItem
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Item item = service.getByUuid(uuid);
+    Item item = remember(service.getByUuid(uuid));
     if (item == null) {
       throw new ResourceNotFoundException();
     }
@@ -3,12 +3,10 @@ package io.github.dbmdz.cudami.controller.identifiable.entity.work;
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.identifiable.entity.work.CudamiManifestationsClient;
 import de.digitalcollections.model.RelationSpecification;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.item.Item;
 import de.digitalcollections.model.identifiable.entity.manifestation.Manifestation;
 import de.digitalcollections.model.list.paging.PageResponse;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
@@ -16,6 +14,7 @@ import io.github.dbmdz.cudami.model.InvertedRelationSpecification;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -35,23 +34,23 @@ public class ManifestationsAPIController
   @SuppressFBWarnings
   @GetMapping("/api/manifestations")
   @ResponseBody
-  public BTResponse<Manifestation> find(
+  public Callable<BTResponse<Manifestation>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Manifestation.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "label",
-        searchTerm,
-        dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            Manifestation.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   /*
@@ -59,30 +58,31 @@ public class ManifestationsAPIController
    */
   @GetMapping("/api/manifestations/{uuid:" + ParameterHelper.UUID_PATTERN + "}/children")
   @ResponseBody
-  public BTResponse<InvertedRelationSpecification<Manifestation>> findChildManifestations(
+  public Callable<BTResponse<InvertedRelationSpecification<Manifestation>>> findChildManifestations(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Manifestation.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Manifestation> pageResponse =
-        ((CudamiManifestationsClient) service).findChildren(uuid, btRequest);
-    PageResponse<InvertedRelationSpecification<Manifestation>> pageResponseTransformed =
-        transformToInvertedRelationSpecification(uuid, pageResponse);
-    return new BTResponse<>(pageResponseTransformed);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Manifestation.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Manifestation> pageResponse =
+          ((CudamiManifestationsClient) service).findChildren(uuid, btRequest);
+      PageResponse<InvertedRelationSpecification<Manifestation>> pageResponseTransformed =
+          transformToInvertedRelationSpecification(uuid, pageResponse);
+      return new BTResponse<>(pageResponseTransformed);
+    };
   }
 
   /*
@@ -90,21 +90,29 @@ public class ManifestationsAPIController
    */
   @GetMapping("/api/manifestations/{uuid:" + ParameterHelper.UUID_PATTERN + "}/items")
   @ResponseBody
-  public BTResponse<Item> findItems(
+  public Callable<BTResponse<Item>> findItems(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Item.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
-    PageResponse<Item> pageResponse =
-        ((CudamiManifestationsClient) service).findItems(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Item.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Item> pageResponse =
+          ((CudamiManifestationsClient) service).findItems(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   private InvertedRelationSpecification<Manifestation> toInvertedRelationSpecification(
@@ -49,7 +49,7 @@ public class ManifestationsController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Manifestation manifestation = service.getByUuid(uuid);
+    Manifestation manifestation = remember(service.getByUuid(uuid));
     if (manifestation == null) {
       throw new ResourceNotFoundException();
     }
@@ -8,13 +8,13 @@ import de.digitalcollections.model.identifiable.entity.manifestation.Manifestati
 import de.digitalcollections.model.identifiable.entity.work.Work;
 import de.digitalcollections.model.list.paging.PageResponse;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,16 +41,15 @@ public class WorksAPIController extends AbstractEntitiesController<Work, CudamiW
   @SuppressFBWarnings
   @GetMapping("/api/works")
   @ResponseBody
-  public BTResponse<Work> find(
+  public Callable<BTResponse<Work>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        Work.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(Work.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
   }
 
   /*
@@ -58,20 +57,28 @@ public class WorksAPIController extends AbstractEntitiesController<Work, CudamiW
   */
   @GetMapping("/api/works/{uuid:" + ParameterHelper.UUID_PATTERN + "}/children")
   @ResponseBody
-  public BTResponse<Work> findChildWorks(
+  public Callable<BTResponse<Work>> findChildWorks(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Work.class, offset, limit, sortProperty, sortOrder, "label", searchTerm, dataLanguage);
-    PageResponse<Work> pageResponse = ((CudamiWorksClient) service).findChildren(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Work.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Work> pageResponse = ((CudamiWorksClient) service).findChildren(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   /*
@@ -79,40 +86,41 @@ public class WorksAPIController extends AbstractEntitiesController<Work, CudamiW
   */
   @GetMapping("/api/works/{uuid:" + ParameterHelper.UUID_PATTERN + "}/manifestations")
   @ResponseBody
-  public BTResponse<Manifestation> findManifestations(
+  public Callable<BTResponse<Manifestation>> findManifestations(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Manifestation.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Manifestation> pageResponse =
-        ((CudamiWorksClient) service).findManifestations(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Manifestation.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Manifestation> pageResponse =
+          ((CudamiWorksClient) service).findManifestations(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/works/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Work getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PutMapping("/api/works/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Work work) {
     try {
-      Work workDb = service.update(uuid, work);
+      Work workDb = forget(uuid, service.update(uuid, work));
       CompletableFuture.runAsync(this::refreshNewspapers);
       return ResponseEntity.ok(workDb);
     } catch (TechnicalException e) {
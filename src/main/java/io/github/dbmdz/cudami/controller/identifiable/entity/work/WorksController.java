@@ -5,6 +5,9 @@ import de.digitalcollections.cudami.client.identifiable.entity.work.CudamiWorksC
 import de.digitalcollections.model.exception.ResourceNotFoundException;
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.entity.work.Work;
+import io.github.dbmdz.cudami.backend.BackendCallScope;
+import io.github.dbmdz.cudami.backend.BackendCallScope.Fork;
+import io.github.dbmdz.cudami.backend.BackendCalls;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.entity.AbstractEntitiesController;
@@ -25,8 +28,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Controller
 public class WorksController extends AbstractEntitiesController<Work, CudamiWorksClient> {
 
-  public WorksController(CudamiClient client, LanguageService languageService) {
+  private final BackendCalls backendCalls;
+
+  public WorksController(
+      CudamiClient client, LanguageService languageService, BackendCalls backendCalls) {
     super(client.forWorks(), client, languageService);
+    this.backendCalls = backendCalls;
   }
 
   @GetMapping("/works")
@@ -46,7 +53,7 @@ public class WorksController extends AbstractEntitiesController<Work, CudamiWork
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Work work = service.getByUuid(uuid);
+    Work work = remember(service.getByUuid(uuid));
     List<String> existingLanguages =
         languageService.sortLanguages(displayLocale, work.getLabel().getLocales()).stream()
             .map(Locale::toLanguageTag)
@@ -74,28 +81,36 @@ public class WorksController extends AbstractEntitiesController<Work, CudamiWork
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Work work = service.getByUuid(uuid);
-    if (work == null) {
-      throw new ResourceNotFoundException();
+    try (BackendCallScope calls = backendCalls.open()) {
+      Fork<Work> workCall = calls.fork("work", () -> remember(service.getByUuid(uuid)));
+      Fork<List<Locale>> manifestationsLanguagesCall =
+          calls.fork(
+              "languages of manifestations",
+              () -> ((CudamiWorksClient) service).getLanguagesOfManifestations(uuid));
+
+      Work work = workCall.join();
+      if (work == null) {
+        throw new ResourceNotFoundException();
+      }
+      model.addAttribute("work", work);
+
+      List<Locale> existingLanguages = getExistingLanguagesFromIdentifiable(work);
+      String dataLanguage = getDataLanguage(targetDataLanguage, existingLanguages, languageService);
+      model
+          .addAttribute("existingLanguages", existingLanguages)
+          .addAttribute("dataLanguage", dataLanguage);
+
+      Locale displayLocale = LocaleContextHolder.getLocale();
+
+      List<Locale> existingManifestationsLanguages =
+          languageService.sortLanguages(
+              displayLocale, manifestationsLanguagesCall.joinOrElse(List.of()));
+      String dataLanguageManifestations =
+          getDataLanguage(targetDataLanguage, existingManifestationsLanguages, languageService);
+      model
+          .addAttribute("existingManifestationsLanguages", existingManifestationsLanguages)
+          .addAttribute("dataLanguageManifestations", dataLanguageManifestations);
     }
-    model.addAttribute("work", work);
-
-    List<Locale> existingLanguages = getExistingLanguagesFromIdentifiable(work);
-    String dataLanguage = getDataLanguage(targetDataLanguage, existingLanguages, languageService);
-    model
-        .addAttribute("existingLanguages", existingLanguages)
-        .addAttribute("dataLanguage", dataLanguage);
-
-    Locale displayLocale = LocaleContextHolder.getLocale();
-
-    List<Locale> existingManifestationsLanguages =
-        languageService.sortLanguages(
-            displayLocale, ((CudamiWorksClient) service).getLanguagesOfManifestations(uuid));
-    String dataLanguageManifestations =
-        getDataLanguage(targetDataLanguage, existingManifestationsLanguages, languageService);
-    model
-        .addAttribute("existingManifestationsLanguages", existingManifestationsLanguages)
-        .addAttribute("dataLanguageManifestations", dataLanguageManifestations);
 
     return "works/view";
   }
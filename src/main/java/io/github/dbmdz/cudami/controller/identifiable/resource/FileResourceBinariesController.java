@@ -0,0 +1,217 @@
+package io.github.dbmdz.cudami.controller.identifiable.resource;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.resource.CudamiFileResourcesMetadataClient;
+import de.digitalcollections.model.exception.ResourceNotFoundException;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.github.dbmdz.cudami.business.binary.FileResourceBinaries;
+import io.github.dbmdz.cudami.controller.ParameterHelper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Delivers the binaries of file resources for preview and download, with support for conditional
+ * and range requests (e.g. seeking in audio and video or paging through a PDF).
+ */
+@Controller
+public class FileResourceBinariesController {
+
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private final CudamiFileResourcesMetadataClient service;
+  private final FileResourceBinaries binaries;
+
+  public FileResourceBinariesController(CudamiClient client, FileResourceBinaries binaries) {
+    this.service = client.forFileResourcesMetadata();
+    this.binaries = binaries;
+  }
+
+  @GetMapping("/fileresources/{uuid:" + ParameterHelper.UUID_PATTERN + "}/binary")
+  public void binary(
+      @PathVariable UUID uuid,
+      @RequestParam(name = "download", required = false, defaultValue = "false") boolean download,
+      ServletWebRequest webRequest,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws TechnicalException, ResourceNotFoundException, IOException, InterruptedException {
+    FileResource fileResource = service.getByUuid(uuid);
+    if (fileResource == null || fileResource.getUri() == null) {
+      throw new ResourceNotFoundException();
+    }
+    long lastModified =
+        fileResource.getLastModified() != null
+            ? fileResource
+                .getLastModified()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli()
+            : -1;
+    String etag = "\"" + uuid + "-" + Long.toHexString(lastModified) + "\"";
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return;
+    }
+
+    Path file = binaries.getLocalFile(fileResource);
+    if (file == null && !binaries.isProxied(fileResource)) {
+      throw new ResourceNotFoundException();
+    }
+    response.setContentType(
+        fileResource.getMimeType() != null
+            ? fileResource.getMimeType().getTypeName()
+            : "application/octet-stream");
+    if (fileResource.getFilename() != null) {
+      response.setHeader(
+          HttpHeaders.CONTENT_DISPOSITION,
+          (download ? ContentDisposition.attachment() : ContentDisposition.inline())
+              .filename(fileResource.getFilename(), StandardCharsets.UTF_8)
+              .build()
+              .toString());
+    }
+    if (file != null && sendFile(file, etag, request, response)) {
+      return;
+    }
+    if (!binaries.isProxied(fileResource)) {
+      throw new ResourceNotFoundException();
+    }
+    proxy(fileResource, request, response);
+  }
+
+  /**
+   * @return false if the file is gone, e.g. evicted from the binary cache since it was looked up
+   */
+  private boolean sendFile(
+      Path file, String etag, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+    try (channel) {
+      send(channel, file, etag, request, response);
+    }
+    return true;
+  }
+
+  private void send(
+      FileChannel channel,
+      Path file,
+      String etag,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    long length = channel.size();
+    long start = 0;
+    long end = length - 1;
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    HttpRange range = getRange(request, etag);
+    if (range != null) {
+      try {
+        start = range.getRangeStart(length);
+        end = range.getRangeEnd(length);
+      } catch (IllegalArgumentException e) {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        return;
+      }
+      response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+    }
+    long count = end - start + 1;
+    response.setContentLengthLong(count);
+    if ("HEAD".equals(request.getMethod()) || count <= 0) {
+      return;
+    }
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      // the connector sends the file straight from the page cache to the socket
+      request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, end + 1);
+      return;
+    }
+    WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+    long position = start;
+    while (position <= end) {
+      long transferred = channel.transferTo(position, end + 1 - position, out);
+      if (transferred <= 0) {
+        // truncated meanwhile
+        break;
+      }
+      position += transferred;
+    }
+  }
+
+  private void proxy(
+      FileResource fileResource, HttpServletRequest request, HttpServletResponse response)
+      throws IOException, InterruptedException {
+    boolean headOnly = "HEAD".equals(request.getMethod());
+    HttpResponse<InputStream> upstream =
+        binaries.open(fileResource, request.getHeader(HttpHeaders.RANGE), headOnly);
+    try (InputStream body = upstream.body()) {
+      int status = upstream.statusCode();
+      if (status != 200 && status != 206 && status != 416) {
+        response.setStatus(
+            status == 404 ? HttpStatus.NOT_FOUND.value() : HttpStatus.BAD_GATEWAY.value());
+        return;
+      }
+      response.setStatus(status);
+      for (String header :
+          List.of(
+              HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_RANGE, HttpHeaders.ACCEPT_RANGES)) {
+        upstream.headers().firstValue(header).ifPresent(value -> response.setHeader(header, value));
+      }
+      if (!headOnly) {
+        body.transferTo(response.getOutputStream());
+      }
+    }
+  }
+
+  /** The single range requested, null for the whole binary. */
+  private static HttpRange getRange(HttpServletRequest request, String etag) {
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    if (rangeHeader == null) {
+      return null;
+    }
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ifRange.equals(etag)) {
+      // changed since the client got its part, it needs everything again
+      return null;
+    }
+    try {
+      List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+      // several ranges are not used by browsers, answer them with the whole binary
+      return ranges.size() == 1 ? ranges.get(0) : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
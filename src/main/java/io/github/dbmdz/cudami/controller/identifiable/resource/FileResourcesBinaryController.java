@@ -1,18 +1,36 @@
 package io.github.dbmdz.cudami.controller.identifiable.resource;
 
-import de.digitalcollections.cudami.client.CudamiClient;
-import de.digitalcollections.cudami.client.identifiable.resource.CudamiFileResourcesBinaryClient;
 import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.github.dbmdz.cudami.backend.BackendTimeoutException;
+import io.github.dbmdz.cudami.backend.FileResourceUploadClient;
+import io.github.dbmdz.cudami.backend.UploadProperties;
+import io.github.dbmdz.cudami.business.upload.UploadDigestIndex;
 import io.github.dbmdz.cudami.controller.AbstractController;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import javax.servlet.http.HttpServletRequest;
 import org.apache.tomcat.util.http.fileupload.FileItemIterator;
 import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.impl.FileSizeLimitExceededException;
+import org.apache.tomcat.util.http.fileupload.impl.SizeException;
 import org.apache.tomcat.util.http.fileupload.servlet.ServletFileUpload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -25,12 +43,26 @@ public class FileResourcesBinaryController extends AbstractController {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileResourcesBinaryController.class);
 
-  CudamiFileResourcesBinaryClient service;
+  private final FileResourceUploadClient service;
+  private final UploadDigestIndex digestIndex;
+  private final UploadProperties uploadProperties;
+  private final ExecutorService uploadExecutor;
 
-  public FileResourcesBinaryController(CudamiClient client) {
-    this.service = client.forFileResourcesBinary();
+  public FileResourcesBinaryController(
+      FileResourceUploadClient uploadClient,
+      UploadDigestIndex digestIndex,
+      UploadProperties uploadProperties,
+      @Qualifier("uploadExecutor") ExecutorService uploadExecutor) {
+    this.service = uploadClient;
+    this.digestIndex = digestIndex;
+    this.uploadProperties = uploadProperties;
+    this.uploadExecutor = uploadExecutor;
   }
 
+  /** Result of one file of a multi-file upload, with the http status its own upload would have. */
+  public record UploadResult(
+      String filename, int status, FileResource fileResource, String error) {}
+
   @ModelAttribute("menu")
   protected String module() {
     return "fileresources";
@@ -48,20 +80,34 @@ public class FileResourcesBinaryController extends AbstractController {
     }
     InputStream stream = null;
     try {
-      ServletFileUpload upload = new ServletFileUpload();
-      FileItemIterator iter = upload.getItemIterator(request);
+      FileItemIterator iter = createFileUpload().getItemIterator(request);
       while (iter.hasNext()) {
         FileItemStream item = iter.next();
         if (!item.isFormField()) {
           String contentType = item.getContentType();
           String filename = item.getName();
-          stream = item.openStream();
+          // the bytes are sent while they are read, so an identical binary can only be detected
+          // for the next upload
+          DigestInputStream digestStream =
+              new DigestInputStream(item.openStream(), UploadDigestIndex.newDigest());
+          stream = digestStream;
 
           FileResource fileResource = service.upload(stream, filename, contentType);
+          digestIndex.put(UploadDigestIndex.toHex(digestStream.getMessageDigest()), fileResource);
           return fileResource;
         }
       }
+    } catch (RejectedExecutionException e) {
+      throw new UploadRejectedException(
+          HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads running", e);
+    } catch (BackendTimeoutException e) {
+      throw new UploadRejectedException(HttpStatus.GATEWAY_TIMEOUT, e.getMessage(), e);
     } catch (IOException e) {
+      SizeException sizeException = findSizeException(e);
+      if (sizeException != null) {
+        throw new UploadRejectedException(
+            HttpStatus.PAYLOAD_TOO_LARGE, sizeException.getMessage(), e);
+      }
       LOGGER.error("Error saving uploaded file data", e);
       redirectAttributes.addFlashAttribute("message", "Error saving file resource!");
       return null;
@@ -77,4 +123,155 @@ public class FileResourcesBinaryController extends AbstractController {
     LOGGER.warn("Invalid file resource!");
     return null;
   }
+
+  /**
+   * Upload of many files in one multipart request ("/api/files?batch"). The request can only be
+   * read one part after another, so each file is spooled to disk and forwarded to the backend in
+   * the background while the next one is read, with up to {@code cudami.server.uploads.parallelism}
+   * files of the request at the same time.
+   *
+   * @return the result of every file, in the order of the request
+   */
+  @PostMapping(value = "/api/files", params = "batch")
+  @ResponseBody
+  public List<UploadResult> uploadBatch(HttpServletRequest request) throws InterruptedException {
+    if (!ServletFileUpload.isMultipartContent(request)) {
+      throw new UploadRejectedException(HttpStatus.BAD_REQUEST, "Not a multipart request", null);
+    }
+    Path directory = uploadProperties.getStaging().getDirectory();
+    Semaphore permits = new Semaphore(uploadProperties.getParallelism());
+    List<Future<UploadResult>> results = new ArrayList<>();
+    try {
+      Files.createDirectories(directory);
+      FileItemIterator iter = createFileUpload().getItemIterator(request);
+      while (iter.hasNext()) {
+        FileItemStream item = iter.next();
+        if (item.isFormField()) {
+          continue;
+        }
+        String filename = item.getName();
+        String contentType = item.getContentType();
+        // limits the spooled files, too: reading waits until a file is forwarded
+        permits.acquire();
+        Path file = null;
+        boolean submitted = false;
+        try {
+          file = Files.createTempFile(directory, "batch-", ".part");
+          String digest;
+          try (DigestInputStream stream =
+              new DigestInputStream(item.openStream(), UploadDigestIndex.newDigest())) {
+            Files.copy(stream, file, StandardCopyOption.REPLACE_EXISTING);
+            digest = UploadDigestIndex.toHex(stream.getMessageDigest());
+          }
+          Path spooled = file;
+          results.add(
+              uploadExecutor.submit(
+                  () -> forward(spooled, digest, filename, contentType, permits)));
+          submitted = true;
+        } catch (IOException e) {
+          SizeException sizeException = findSizeException(e);
+          if (sizeException == null) {
+            throw e;
+          }
+          results.add(
+              CompletableFuture.completedFuture(
+                  new UploadResult(
+                      filename,
+                      HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                      null,
+                      sizeException.getMessage())));
+          if (!(sizeException instanceof FileSizeLimitExceededException)) {
+            // the whole request is too large, the remaining files are not read
+            break;
+          }
+        } finally {
+          if (!submitted) {
+            permits.release();
+            deleteQuietly(file);
+          }
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.error("Error reading multi-file upload", e);
+      results.add(
+          CompletableFuture.completedFuture(
+              new UploadResult(
+                  null, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, e.getMessage())));
+    }
+
+    List<UploadResult> uploadResults = new ArrayList<>(results.size());
+    for (Future<UploadResult> result : results) {
+      try {
+        uploadResults.add(result.get());
+      } catch (ExecutionException e) {
+        uploadResults.add(
+            new UploadResult(
+                null, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, e.getCause().toString()));
+      }
+    }
+    return uploadResults;
+  }
+
+  private UploadResult forward(
+      Path file, String digest, String filename, String contentType, Semaphore permits) {
+    try {
+      // an identical binary uploaded before is not sent again
+      FileResource fileResource = digestIndex.get(digest);
+      if (fileResource == null) {
+        fileResource = service.upload(file, filename, contentType);
+        digestIndex.put(digest, fileResource);
+      }
+      return new UploadResult(filename, HttpStatus.OK.value(), fileResource, null);
+    } catch (RejectedExecutionException e) {
+      return new UploadResult(
+          filename, HttpStatus.SERVICE_UNAVAILABLE.value(), null, "Too many uploads running");
+    } catch (TechnicalException e) {
+      LOGGER.warn("Backend did not accept {}: {}", filename, e.getMessage());
+      return new UploadResult(filename, HttpStatus.BAD_GATEWAY.value(), null, e.getMessage());
+    } catch (BackendTimeoutException e) {
+      LOGGER.warn("Backend did not accept {} in time", filename);
+      return new UploadResult(filename, HttpStatus.GATEWAY_TIMEOUT.value(), null, e.getMessage());
+    } catch (IOException e) {
+      LOGGER.error("Error uploading " + filename, e);
+      return new UploadResult(
+          filename, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, e.getMessage());
+    } finally {
+      deleteQuietly(file);
+      permits.release();
+    }
+  }
+
+  private ServletFileUpload createFileUpload() {
+    ServletFileUpload upload = new ServletFileUpload();
+    // files are streamed while they are read, so too large uploads are aborted as soon as the
+    // limit is reached
+    upload.setSizeMax(limit(uploadProperties.getMaxRequestSize().toBytes()));
+    upload.setFileSizeMax(limit(uploadProperties.getMaxFileSize().toBytes()));
+    return upload;
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.warn("Cannot delete spooled upload {}: {}", file, e.getMessage());
+    }
+  }
+
+  private static long limit(long bytes) {
+    return bytes < 0 ? -1 : bytes;
+  }
+
+  /** The size limit hit while reading the upload, maybe wrapped by the http client. */
+  private static SizeException findSizeException(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof SizeException sizeException) {
+        return sizeException;
+      }
+    }
+    return null;
+  }
 }
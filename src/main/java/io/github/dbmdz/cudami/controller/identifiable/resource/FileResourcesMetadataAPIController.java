@@ -13,13 +13,13 @@ import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.list.sorting.Order;
 import de.digitalcollections.model.list.sorting.Sorting;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.AbstractIdentifiablesController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
@@ -48,23 +48,23 @@ public class FileResourcesMetadataAPIController
   @SuppressFBWarnings
   @GetMapping("/api/fileresources")
   @ResponseBody
-  public BTResponse<FileResource> find(
+  public Callable<BTResponse<FileResource>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "label") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        FileResource.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "label",
-        searchTerm,
-        dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            FileResource.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "label",
+            searchTerm,
+            dataLanguage);
   }
 
   /*
@@ -73,71 +73,76 @@ public class FileResourcesMetadataAPIController
    */
   @GetMapping("/api/fileresources/search")
   @ResponseBody
-  public PageResponse<FileResource> find(
+  public Callable<PageResponse<FileResource>> find(
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchField", required = false) String searchField,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException {
-    // TODO ?: add datalanguage as request param to allow search / autocompletion in
-    // selected data language
-    String dataLanguage = null;
-    PageRequest pageRequest =
-        createPageRequest(
-            Entity.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
-    PageResponse<FileResource> pageResponse = search(searchField, searchTerm, pageRequest);
-    if (pageResponse == null) {
-      throw new InvalidEndpointRequestException("invalid request param", searchField);
-    }
-    return pageResponse;
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      // TODO ?: add datalanguage as request param to allow search / autocompletion in
+      // selected data language
+      String dataLanguage = null;
+      PageRequest pageRequest =
+          createPageRequest(
+              Entity.class, pageNumber, pageSize, sortBy, searchField, searchTerm, dataLanguage);
+      PageResponse<FileResource> pageResponse = search(searchField, searchTerm, pageRequest);
+      if (pageResponse == null) {
+        throw new InvalidEndpointRequestException("invalid request param", searchField);
+      }
+      return pageResponse;
+    };
   }
 
   @GetMapping("/api/fileresources/type/{type}")
   @ResponseBody
-  public PageResponse<FileResource> findByType(
+  public Callable<PageResponse<FileResource>> findByType(
       @PathVariable String type,
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException {
-    PageRequest pageRequest = new PageRequest(pageNumber, pageSize);
-    if (searchTerm != null) {
-      Filtering filtering =
-          Filtering.builder()
-              .filterCriterion(
-                  FilterLogicalOperator.OR,
-                  FilterCriterion.builder().contains(searchTerm).withExpression("label").build())
-              .filterCriterion(
-                  FilterLogicalOperator.OR,
-                  FilterCriterion.builder()
-                      .contains(searchTerm)
-                      .withExpression("description")
-                      .build())
-              .filterCriterion(
-                  FilterLogicalOperator.OR,
-                  FilterCriterion.builder().contains(searchTerm).withExpression("filename").build())
-              .build();
-      pageRequest.setFiltering(filtering);
-    }
-    if (sortBy != null) {
-      Sorting sorting = new Sorting(sortBy);
-      pageRequest.setSorting(sorting);
-    }
-    return ((CudamiFileResourcesMetadataClient) service).findByType(pageRequest, type);
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      PageRequest pageRequest = new PageRequest(pageNumber, pageSize);
+      if (searchTerm != null) {
+        Filtering filtering =
+            Filtering.builder()
+                .filterCriterion(
+                    FilterLogicalOperator.OR,
+                    FilterCriterion.builder().contains(searchTerm).withExpression("label").build())
+                .filterCriterion(
+                    FilterLogicalOperator.OR,
+                    FilterCriterion.builder()
+                        .contains(searchTerm)
+                        .withExpression("description")
+                        .build())
+                .filterCriterion(
+                    FilterLogicalOperator.OR,
+                    FilterCriterion.builder()
+                        .contains(searchTerm)
+                        .withExpression("filename")
+                        .build())
+                .build();
+        pageRequest.setFiltering(filtering);
+      }
+      if (sortBy != null) {
+        Sorting sorting = new Sorting(sortBy);
+        pageRequest.setSorting(sorting);
+      }
+      return ((CudamiFileResourcesMetadataClient) service).findByType(pageRequest, type);
+    };
   }
 
   @GetMapping("/api/fileresources/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public FileResource getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/fileresources")
   public ResponseEntity save(@RequestBody FileResource fileResource) {
     try {
-      FileResource fileResourceDb = service.save(fileResource);
+      FileResource fileResourceDb = forget(null, service.save(fileResource));
       return ResponseEntity.status(HttpStatus.CREATED).body(fileResourceDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save fileresource: ", e);
@@ -148,7 +153,7 @@ public class FileResourcesMetadataAPIController
   @PutMapping("/api/fileresources/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody FileResource fileResource) {
     try {
-      FileResource fileResourceDb = service.update(uuid, fileResource);
+      FileResource fileResourceDb = forget(uuid, service.update(uuid, fileResource));
       return ResponseEntity.ok(fileResourceDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save fileresource with uuid={}", uuid, e);
@@ -46,7 +46,7 @@ public class FileResourcesMetadataController
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    FileResource fileResource = service.getByUuid(uuid);
+    FileResource fileResource = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, fileResource.getLabel().getLocales());
 
@@ -83,7 +83,7 @@ public class FileResourcesMetadataController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    FileResource resource = service.getByUuid(uuid);
+    FileResource resource = remember(service.getByUuid(uuid));
     if (resource == null) {
       throw new ResourceNotFoundException();
     }
@@ -8,12 +8,12 @@ import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.list.sorting.Order;
 import de.digitalcollections.model.list.sorting.Sorting;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.controller.identifiable.AbstractIdentifiablesController;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -47,30 +47,31 @@ public class ImageFileResourcesAPIController
 
   @GetMapping("/api/imagefileresources")
   @ResponseBody
-  public PageResponse<ImageFileResource> find(
+  public Callable<PageResponse<ImageFileResource>> find(
       @RequestParam(name = "pageNumber", required = false, defaultValue = "0") int pageNumber,
       @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
       @RequestParam(name = "searchTerm", required = false) String searchTerm,
-      @RequestParam(name = "sortBy", required = false) List<Order> sortBy)
-      throws TechnicalException, ServiceException {
-    PageRequest pageRequest = new PageRequest(searchTerm, pageNumber, pageSize);
-    if (sortBy != null) {
-      Sorting sorting = new Sorting(sortBy);
-      pageRequest.setSorting(sorting);
-    }
-    return service.find(pageRequest);
+      @RequestParam(name = "sortBy", required = false) List<Order> sortBy) {
+    return () -> {
+      PageRequest pageRequest = new PageRequest(searchTerm, pageNumber, pageSize);
+      if (sortBy != null) {
+        Sorting sorting = new Sorting(sortBy);
+        pageRequest.setSorting(sorting);
+      }
+      return service.find(pageRequest);
+    };
   }
 
   @GetMapping("/api/imagefileresources/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public ImageFileResource getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/imagefileresources")
   public ResponseEntity save(@RequestBody ImageFileResource imageFileResource) {
     try {
-      ImageFileResource fileResourceDb = service.save(imageFileResource);
+      ImageFileResource fileResourceDb = forget(null, service.save(imageFileResource));
       return ResponseEntity.status(HttpStatus.CREATED).body(fileResourceDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save image fileresource: ", e);
@@ -82,7 +83,7 @@ public class ImageFileResourcesAPIController
   public ResponseEntity update(
       @PathVariable UUID uuid, @RequestBody ImageFileResource imageFileResource) {
     try {
-      ImageFileResource fileResourceDb = service.update(uuid, imageFileResource);
+      ImageFileResource fileResourceDb = forget(uuid, service.update(uuid, imageFileResource));
       return ResponseEntity.ok(fileResourceDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save image fileresource with uuid={}", uuid, e);
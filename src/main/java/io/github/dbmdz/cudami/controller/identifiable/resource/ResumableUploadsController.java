@@ -0,0 +1,215 @@
+package io.github.dbmdz.cudami.controller.identifiable.resource;
+
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.github.dbmdz.cudami.backend.BackendTimeoutException;
+import io.github.dbmdz.cudami.backend.FileResourceUploadClient;
+import io.github.dbmdz.cudami.backend.UploadProperties;
+import io.github.dbmdz.cudami.business.upload.StagedUpload;
+import io.github.dbmdz.cudami.business.upload.StagingFullException;
+import io.github.dbmdz.cudami.business.upload.UploadDigestIndex;
+import io.github.dbmdz.cudami.business.upload.UploadStaging;
+import io.github.dbmdz.cudami.controller.ParameterHelper;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import javax.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Resumable uploads of file resources, following the core protocol of tus (https://tus.io): an
+ * upload is created with its length, its chunks are sent one after another by PATCH at the offset
+ * reached so far (to be asked for by HEAD after an interruption), and once complete it is
+ * finalized, i.e. forwarded to the backend.
+ */
+@RestController
+public class ResumableUploadsController {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResumableUploadsController.class);
+
+  static final String TUS_RESUMABLE = "Tus-Resumable";
+  static final String TUS_VERSION = "1.0.0";
+  static final String UPLOAD_LENGTH = "Upload-Length";
+  static final String UPLOAD_METADATA = "Upload-Metadata";
+  static final String UPLOAD_OFFSET = "Upload-Offset";
+
+  private final UploadStaging staging;
+  private final FileResourceUploadClient uploadClient;
+  private final UploadDigestIndex digestIndex;
+  private final UploadProperties uploadProperties;
+
+  public ResumableUploadsController(
+      UploadStaging staging,
+      FileResourceUploadClient uploadClient,
+      UploadDigestIndex digestIndex,
+      UploadProperties uploadProperties) {
+    this.staging = staging;
+    this.uploadClient = uploadClient;
+    this.digestIndex = digestIndex;
+    this.uploadProperties = uploadProperties;
+  }
+
+  @PostMapping("/api/uploads")
+  public ResponseEntity<Void> create(
+      @RequestHeader(UPLOAD_LENGTH) long length,
+      @RequestHeader(name = UPLOAD_METADATA, required = false) String metadata)
+      throws IOException {
+    long maxFileSize = uploadProperties.getMaxFileSize().toBytes();
+    if (length < 0
+        || maxFileSize >= 0 && length > maxFileSize
+        || staging.getMaxSize() >= 0 && length > staging.getMaxSize()) {
+      throw new UploadRejectedException(
+          HttpStatus.PAYLOAD_TOO_LARGE, "Upload of " + length + " bytes not allowed", null);
+    }
+    Map<String, String> meta = parseMetadata(metadata);
+    StagedUpload upload;
+    try {
+      upload =
+          staging.create(
+              meta.getOrDefault("filename", "upload"),
+              meta.getOrDefault("filetype", "application/octet-stream"),
+              length);
+    } catch (StagingFullException e) {
+      throw new UploadRejectedException(HttpStatus.INSUFFICIENT_STORAGE, e.getMessage(), e);
+    }
+    // relative to the request, so that it is right behind a proxy, too
+    return ResponseEntity.created(URI.create("uploads/" + upload.getId()))
+        .header(TUS_RESUMABLE, TUS_VERSION)
+        .header(UPLOAD_OFFSET, "0")
+        .build();
+  }
+
+  @RequestMapping(
+      value = "/api/uploads/{id:" + ParameterHelper.UUID_PATTERN + "}",
+      method = RequestMethod.HEAD)
+  public ResponseEntity<Void> offset(@PathVariable UUID id) {
+    StagedUpload upload = staging.get(id);
+    if (upload == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noStore())
+        .header(TUS_RESUMABLE, TUS_VERSION)
+        .header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+        .header(UPLOAD_LENGTH, String.valueOf(upload.getLength()))
+        .build();
+  }
+
+  @PatchMapping("/api/uploads/{id:" + ParameterHelper.UUID_PATTERN + "}")
+  public ResponseEntity<Void> patch(
+      @PathVariable UUID id,
+      @RequestHeader(UPLOAD_OFFSET) long offset,
+      HttpServletRequest request) {
+    StagedUpload upload = staging.get(id);
+    if (upload == null) {
+      return ResponseEntity.notFound().build();
+    }
+    long newOffset;
+    try {
+      newOffset = staging.append(upload, offset, request.getInputStream());
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+          .build();
+    } catch (IllegalArgumentException e) {
+      throw new UploadRejectedException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+    } catch (IOException e) {
+      // usually the connection dropped, the client resumes from the offset reached
+      LOGGER.info("Chunk of upload {} interrupted: {}", id, e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+          .header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+          .build();
+    }
+    return ResponseEntity.noContent()
+        .header(TUS_RESUMABLE, TUS_VERSION)
+        .header(UPLOAD_OFFSET, String.valueOf(newOffset))
+        .build();
+  }
+
+  @PostMapping("/api/uploads/{id:" + ParameterHelper.UUID_PATTERN + "}/finalize")
+  public ResponseEntity<FileResource> complete(@PathVariable UUID id)
+      throws IOException, TechnicalException {
+    StagedUpload upload = staging.get(id);
+    if (upload == null) {
+      return ResponseEntity.notFound().build();
+    }
+    upload = staging.take(id);
+    if (upload == null) {
+      // incomplete or being finalized by another request
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+    FileResource fileResource;
+    try {
+      // an identical binary uploaded before is not sent again
+      String digest = upload.getDigest();
+      fileResource = digestIndex.get(digest);
+      if (fileResource == null) {
+        fileResource =
+            uploadClient.upload(upload.getFile(), upload.getFilename(), upload.getContentType());
+        digestIndex.put(digest, fileResource);
+      }
+    } catch (IOException | TechnicalException | RuntimeException e) {
+      // keep the staged file for another try
+      staging.release(upload);
+      if (e instanceof RejectedExecutionException) {
+        throw new UploadRejectedException(
+            HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads running", e);
+      }
+      if (e instanceof BackendTimeoutException) {
+        throw new UploadRejectedException(HttpStatus.GATEWAY_TIMEOUT, e.getMessage(), e);
+      }
+      throw e;
+    }
+    staging.finish(upload);
+    return ResponseEntity.ok(fileResource);
+  }
+
+  @DeleteMapping("/api/uploads/{id:" + ParameterHelper.UUID_PATTERN + "}")
+  public ResponseEntity<Void> delete(@PathVariable UUID id) {
+    StagedUpload upload = staging.get(id);
+    if (upload == null) {
+      return ResponseEntity.notFound().build();
+    }
+    staging.finish(upload);
+    return ResponseEntity.noContent().header(TUS_RESUMABLE, TUS_VERSION).build();
+  }
+
+  /** Comma separated pairs of key and Base64 encoded value, e.g. "filename d29ybGQ=". */
+  static Map<String, String> parseMetadata(String metadata) {
+    Map<String, String> result = new HashMap<>();
+    if (metadata == null || metadata.isBlank()) {
+      return result;
+    }
+    for (String pair : metadata.split(",")) {
+      String[] keyAndValue = pair.trim().split(" ", 2);
+      try {
+        result.put(
+            keyAndValue[0],
+            keyAndValue.length > 1
+                ? new String(Base64.getDecoder().decode(keyAndValue[1]), StandardCharsets.UTF_8)
+                : "");
+      } catch (IllegalArgumentException e) {
+        throw new UploadRejectedException(
+            HttpStatus.BAD_REQUEST, "Invalid upload metadata " + keyAndValue[0], e);
+      }
+    }
+    return result;
+  }
+}
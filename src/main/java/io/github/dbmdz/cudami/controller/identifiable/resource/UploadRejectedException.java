@@ -0,0 +1,21 @@
+package io.github.dbmdz.cudami.controller.identifiable.resource;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown if an upload is refused, e.g. because it is too large or too many uploads are running, or
+ * if the backend did not accept it in time.
+ */
+public class UploadRejectedException extends RuntimeException {
+
+  private final HttpStatus status;
+
+  public UploadRejectedException(HttpStatus status, String message, Throwable cause) {
+    super(message, cause);
+    this.status = status;
+  }
+
+  public HttpStatus getStatus() {
+    return status;
+  }
+}
@@ -83,7 +83,7 @@ public class SubjectsController
       @RequestParam(name = "activeLanguage", required = false) Locale activeLanguage,
       Model model)
       throws TechnicalException {
-    Subject subject = service.getByUuid(uuid);
+    Subject subject = remember(service.getByUuid(uuid));
     model.addAttribute("subject", subject);
 
     List<Locale> existingLanguages =
@@ -163,7 +163,7 @@ public class SubjectsController
     }
     Subject subjectDB = null;
     try {
-      subjectDB = service.save(subject);
+      subjectDB = forget(null, service.save(subject));
       LOGGER.info("Successfully saved subject");
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save subject: ", e);
@@ -220,7 +220,7 @@ public class SubjectsController
     }
 
     try {
-      service.update(pathUuid, subject);
+      forget(pathUuid, service.update(pathUuid, subject));
     } catch (TechnicalException e) {
       String message = "Cannot update subject with uuid=" + pathUuid + ": " + e;
       LOGGER.error(message, e);
@@ -242,7 +242,7 @@ public class SubjectsController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Subject subject = service.getByUuid(uuid);
+    Subject subject = remember(service.getByUuid(uuid));
     if (subject == null) {
       throw new ResourceNotFoundException();
     }
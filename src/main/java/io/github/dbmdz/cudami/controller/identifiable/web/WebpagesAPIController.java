@@ -12,6 +12,7 @@ import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -44,34 +45,35 @@ public class WebpagesAPIController
 
   @GetMapping("/api/webpages/{uuid:" + ParameterHelper.UUID_PATTERN + "}/webpages")
   @ResponseBody
-  public BTResponse<Webpage> findSubpages(
+  public Callable<BTResponse<Webpage>> findSubpages(
       @PathVariable UUID uuid,
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false) String sortProperty,
       @RequestParam(name = "order", required = false) String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException {
-    BTRequest btRequest =
-        createBTRequest(
-            Webpage.class,
-            offset,
-            limit,
-            sortProperty,
-            sortOrder,
-            "label",
-            searchTerm,
-            dataLanguage);
-    PageResponse<Webpage> pageResponse =
-        ((CudamiWebpagesClient) service).findSubpages(uuid, btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              Webpage.class,
+              offset,
+              limit,
+              sortProperty,
+              sortOrder,
+              "label",
+              searchTerm,
+              dataLanguage);
+      PageResponse<Webpage> pageResponse =
+          ((CudamiWebpagesClient) service).findSubpages(uuid, btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   @GetMapping("/api/webpages/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   @ResponseBody
   public Webpage getByUuid(@PathVariable UUID uuid) throws TechnicalException {
-    return service.getByUuid(uuid);
+    return remember(service.getByUuid(uuid));
   }
 
   @PostMapping("/api/webpages")
@@ -82,9 +84,13 @@ public class WebpagesAPIController
     try {
       Webpage webpageDb = null;
       if (parentType.equals("website")) {
-        webpageDb = ((CudamiWebpagesClient) service).saveWithParentWebsite(webpage, parentUuid);
+        webpageDb =
+            forget(
+                null, ((CudamiWebpagesClient) service).saveWithParentWebsite(webpage, parentUuid));
       } else {
-        webpageDb = ((CudamiWebpagesClient) service).saveWithParentWebpage(webpage, parentUuid);
+        webpageDb =
+            forget(
+                null, ((CudamiWebpagesClient) service).saveWithParentWebpage(webpage, parentUuid));
       }
       return ResponseEntity.status(HttpStatus.CREATED).body(webpageDb);
     } catch (TechnicalException e) {
@@ -100,7 +106,7 @@ public class WebpagesAPIController
   @PutMapping("/api/webpages/{uuid:" + ParameterHelper.UUID_PATTERN + "}")
   public ResponseEntity update(@PathVariable UUID uuid, @RequestBody Webpage webpage) {
     try {
-      Webpage webpageDb = service.update(uuid, webpage);
+      Webpage webpageDb = forget(uuid, service.update(uuid, webpage));
       return ResponseEntity.ok(webpageDb);
     } catch (TechnicalException e) {
       LOGGER.error("Cannot save webpage with uuid={}", uuid, e);
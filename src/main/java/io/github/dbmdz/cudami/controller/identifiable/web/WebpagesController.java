@@ -64,7 +64,7 @@ public class WebpagesController
       Model model)
       throws TechnicalException {
     final Locale displayLocale = LocaleContextHolder.getLocale();
-    Webpage webpage = service.getByUuid(uuid);
+    Webpage webpage = remember(service.getByUuid(uuid));
     List<Locale> existingLanguages =
         languageService.sortLanguages(displayLocale, webpage.getLabel().getLocales());
 
@@ -105,7 +105,7 @@ public class WebpagesController
       @RequestParam(name = "dataLanguage", required = false) String targetDataLanguage,
       Model model)
       throws TechnicalException, ResourceNotFoundException {
-    Webpage webpage = service.getByUuid(uuid);
+    Webpage webpage = remember(service.getByUuid(uuid));
     if (webpage == null) {
       throw new ResourceNotFoundException();
     }
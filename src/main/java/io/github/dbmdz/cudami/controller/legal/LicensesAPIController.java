@@ -1,13 +1,12 @@
 package io.github.dbmdz.cudami.controller.legal;
 
 import de.digitalcollections.cudami.client.CudamiClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.legal.License;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,15 +27,15 @@ public class LicensesAPIController extends AbstractUniqueObjectController<Licens
   @SuppressFBWarnings
   @GetMapping("/api/licenses")
   @ResponseBody
-  public BTResponse<License> find(
+  public Callable<BTResponse<License>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "url") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        License.class, offset, limit, sortProperty, sortOrder, "url", searchTerm, dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            License.class, offset, limit, sortProperty, sortOrder, "url", searchTerm, dataLanguage);
   }
 }
@@ -1,16 +1,15 @@
 package io.github.dbmdz.cudami.controller.security;
 
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.list.paging.PageResponse;
 import de.digitalcollections.model.security.User;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.api.service.security.UserService;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.controller.ParameterHelper;
 import io.github.dbmdz.cudami.model.bootstraptable.BTRequest;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -40,18 +39,19 @@ public class UsersAPIController extends AbstractUniqueObjectController<User> {
   @SuppressFBWarnings
   @GetMapping("/api/users")
   @ResponseBody
-  public BTResponse<User> find(
+  public Callable<BTResponse<User>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "lastname") String sortProperty,
-      @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder)
-      throws TechnicalException, ServiceException {
-    BTRequest btRequest =
-        createBTRequest(
-            User.class, offset, limit, sortProperty, sortOrder, "lastname", searchTerm, null);
-    PageResponse<User> pageResponse = service.find(btRequest);
-    return new BTResponse<>(pageResponse);
+      @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder) {
+    return () -> {
+      BTRequest btRequest =
+          createBTRequest(
+              User.class, offset, limit, sortProperty, sortOrder, "lastname", searchTerm, null);
+      PageResponse<User> pageResponse = service.find(btRequest);
+      return new BTResponse<>(pageResponse);
+    };
   }
 
   /* endpoint for addUserStatusChangeHandler in index.js, see users/view.html */
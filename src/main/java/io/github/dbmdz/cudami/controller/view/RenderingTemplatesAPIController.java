@@ -1,13 +1,12 @@
 package io.github.dbmdz.cudami.controller.view;
 
 import de.digitalcollections.cudami.client.CudamiClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.view.RenderingTemplate;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.github.dbmdz.cudami.business.api.service.exceptions.ServiceException;
 import io.github.dbmdz.cudami.business.i18n.LanguageService;
 import io.github.dbmdz.cudami.controller.AbstractUniqueObjectController;
 import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,22 +29,22 @@ public class RenderingTemplatesAPIController
   @SuppressFBWarnings
   @GetMapping("/api/renderingtemplates")
   @ResponseBody
-  public BTResponse<RenderingTemplate> find(
+  public Callable<BTResponse<RenderingTemplate>> find(
       @RequestParam(name = "offset", required = false, defaultValue = "0") int offset,
       @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
       @RequestParam(name = "search", required = false) String searchTerm,
       @RequestParam(name = "sort", required = false, defaultValue = "name") String sortProperty,
       @RequestParam(name = "order", required = false, defaultValue = "asc") String sortOrder,
-      @RequestParam(name = "dataLanguage", required = false) String dataLanguage)
-      throws TechnicalException, ServiceException {
-    return find(
-        RenderingTemplate.class,
-        offset,
-        limit,
-        sortProperty,
-        sortOrder,
-        "name",
-        searchTerm,
-        dataLanguage);
+      @RequestParam(name = "dataLanguage", required = false) String dataLanguage) {
+    return () ->
+        find(
+            RenderingTemplate.class,
+            offset,
+            limit,
+            sortProperty,
+            sortOrder,
+            "name",
+            searchTerm,
+            dataLanguage);
   }
 }
@@ -34,7 +34,6 @@ public class CreateAdminUserInterceptor implements HandlerInterceptor, MessageSo
   @Override
   public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
       throws ServiceException {
-    LOGGER.info("checking if admin user exists...");
     boolean activeAdminUserExists = service.doesActiveAdminUserExist();
     if (!activeAdminUserExists) {
       request.setAttribute("createAdminUser", true);
@@ -6,10 +6,10 @@ import javax.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
 import org.springframework.lang.NonNull;
 import org.springframework.util.StringUtils;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 
-public class RequestIdLoggingInterceptor implements HandlerInterceptor {
+public class RequestIdLoggingInterceptor implements AsyncHandlerInterceptor {
   /** Clear MDC to avoid data leaking between two requests handled by the same thread. */
   @Override
   public void postHandle(
@@ -20,6 +20,18 @@ public class RequestIdLoggingInterceptor implements HandlerInterceptor {
     MDC.clear();
   }
 
+  /**
+   * Clear MDC of the servlet thread when an asynchronous request releases it (postHandle is only
+   * called for the dispatch that completes the request).
+   */
+  @Override
+  public void afterConcurrentHandlingStarted(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler) {
+    MDC.clear();
+  }
+
   /**
    * Register the request identifier (if received from client/frontend server) in the logging
    * context.
@@ -0,0 +1,105 @@
+package io.github.dbmdz.cudami.model.bootstraptable;
+
+import de.digitalcollections.model.UniqueObject;
+import de.digitalcollections.model.list.sorting.Direction;
+import de.digitalcollections.model.list.sorting.Order;
+import de.digitalcollections.model.text.LocalizedText;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyAccessorFactory;
+
+/**
+ * Position in a sorted list: the sort key and uuid of the last row of a page. The following page is
+ * requested as the rows after this position (keyset paging), which the backend finds by index
+ * instead of counting the rows before (offset paging).
+ *
+ * <p>For bootstrap-table the cursor is an opaque token, see {@link #encode()}.
+ *
+ * @param expression sort property, with the language of a localized property (e.g. "label.de")
+ * @param direction sort direction
+ * @param value sort key of the row, as string
+ * @param uuid uuid of the row, ordering rows of the same sort key
+ */
+public record BTCursor(String expression, Direction direction, String value, UUID uuid) {
+
+  private static final String SEPARATOR = "\n";
+
+  /**
+   * @param row last row of a page
+   * @param order the order of the page
+   * @return the position after the row, or null if the row has no sort key (rows without are sorted
+   *     first or last by the backend, so they cannot be found by the sort key)
+   */
+  public static BTCursor after(Object row, Order order) {
+    if (!(row instanceof UniqueObject uniqueObject) || uniqueObject.getUuid() == null) {
+      return null;
+    }
+    Object value;
+    try {
+      value =
+          PropertyAccessorFactory.forBeanPropertyAccess(row).getPropertyValue(order.getProperty());
+    } catch (BeansException e) {
+      return null;
+    }
+    if (value instanceof LocalizedText localizedText) {
+      value =
+          order
+              .getSubProperty()
+              .map(l -> localizedText.getText(Locale.forLanguageTag(l)))
+              .orElse(null);
+    }
+    if (value == null) {
+      return null;
+    }
+    return new BTCursor(
+        expression(order), order.getDirection(), value.toString(), uniqueObject.getUuid());
+  }
+
+  /**
+   * @param token token of {@link #encode()}
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is no cursor
+   */
+  public static BTCursor decode(String token) {
+    String[] parts;
+    try {
+      parts =
+          new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+              .split(SEPARATOR, 4);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor " + token, e);
+    }
+    if (parts.length != 4) {
+      throw new IllegalArgumentException("Invalid cursor " + token);
+    }
+    return new BTCursor(
+        parts[0], Direction.fromString(parts[1]), parts[3], UUID.fromString(parts[2]));
+  }
+
+  /**
+   * @param order an order of a list
+   * @return the expression of the order in sortings and filterings (e.g. "label.de")
+   */
+  public static String expression(Order order) {
+    return order.getProperty() + order.getSubProperty().map(l -> "." + l).orElse("");
+  }
+
+  /**
+   * @return the cursor as url-safe string
+   */
+  public String encode() {
+    String cursor =
+        String.join(
+            SEPARATOR,
+            expression,
+            direction.name().toLowerCase(Locale.ROOT),
+            uuid.toString(),
+            value);
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+}
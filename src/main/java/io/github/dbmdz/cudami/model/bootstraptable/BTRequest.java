@@ -1,14 +1,27 @@
 package io.github.dbmdz.cudami.model.bootstraptable;
 
+import de.digitalcollections.model.list.filtering.FilterCriteria;
+import de.digitalcollections.model.list.filtering.FilterCriterion;
+import de.digitalcollections.model.list.filtering.FilterLogicalOperator;
+import de.digitalcollections.model.list.filtering.Filtering;
 import de.digitalcollections.model.list.paging.PageRequest;
 import de.digitalcollections.model.list.sorting.Direction;
+import de.digitalcollections.model.list.sorting.NullHandling;
 import de.digitalcollections.model.list.sorting.Order;
+import de.digitalcollections.model.list.sorting.Sorting;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressFBWarnings
 public class BTRequest extends PageRequest {
 
+  private static final String UUID = "uuid";
+
+  private final int tableOffset;
+  private Order sortOrder;
+  private BTCursor cursor;
+
   public BTRequest(int offset, int limit) {
     this(offset, limit, null);
   }
@@ -19,6 +32,7 @@ public class BTRequest extends PageRequest {
 
   public BTRequest(int offset, int limit, List<Order> sortOrders) {
     super((int) Math.ceil(offset / limit), limit, sortOrders);
+    this.tableOffset = offset;
   }
 
   public BTRequest(
@@ -35,4 +49,95 @@ public class BTRequest extends PageRequest {
             .direction(Direction.fromString(sortOrder))
             .build());
   }
+
+  /**
+   * Switches to cursor mode, which is requested by bootstrap-table with a "cursor" parameter (empty
+   * for a page without cursor): the rows are additionally sorted by uuid, so that the position of
+   * every row is unique, and the response has a cursor for the following page (see {@link
+   * BTResponse}). Given a cursor, the page is requested as the rows after it by a filter on the
+   * sort key and uuid (keyset paging), instead of skipping the rows before (offset paging):
+   *
+   * <pre>
+   *   (key &gt;= value OR key IS NULL) AND (key &gt; value OR key IS NULL OR uuid &gt; cursor uuid)
+   * </pre>
+   *
+   * <p>Rows without sort key (e.g. without label in the sort language) are sorted last in both
+   * directions, so that they follow every cursor; a cursor is never at such a row (see {@link
+   * BTCursor#after(Object, Order)}).
+   *
+   * <p>Must be called after sorting and filtering are set.
+   *
+   * @param cursor position of the last row of the previous page, or null
+   * @throws IllegalArgumentException if the request is not sorted by a single property or if the
+   *     cursor is of another sorting
+   */
+  public void seek(BTCursor cursor) {
+    Sorting sorting = getSorting();
+    if (sorting == null || sorting.getOrders() == null || sorting.getOrders().size() != 1) {
+      throw new IllegalArgumentException("Cursor requires sorting by a single property");
+    }
+    Order order = sorting.getOrders().get(0);
+    order.setNullHandling(NullHandling.NULLS_LAST);
+    if (cursor != null
+        && (!cursor.expression().equals(BTCursor.expression(order))
+            || cursor.direction() != order.getDirection())) {
+      throw new IllegalArgumentException("Cursor of another sorting than " + order);
+    }
+    setSorting(new Sorting(order, new Order(order.getDirection(), UUID)));
+    this.sortOrder = order;
+    this.cursor = cursor;
+    if (cursor == null) {
+      return;
+    }
+
+    setPageNumber(0);
+    Filtering filtering = getFiltering() != null ? getFiltering() : new Filtering();
+    boolean ascending = order.getDirection() != Direction.DESC;
+    FilterCriterion.Builder key = FilterCriterion.builder().withExpression(cursor.expression());
+    filtering.add(
+        ascending
+            ? key.greaterOrEqualOrNotSet(cursor.value()).build()
+            : key.lessOrEqualOrNotSet(cursor.value()).build());
+    FilterCriterion.Builder after = FilterCriterion.builder().withExpression(cursor.expression());
+    FilterCriterion.Builder uuid = FilterCriterion.builder().withExpression(UUID);
+    // a criteria of its own: Filtering#add(FilterLogicalOperator, List) loses the operator of a
+    // new criteria or merges with an existing one
+    List<FilterCriteria> filterCriteriaList = new ArrayList<>(filtering.getFilterCriteriaList());
+    filterCriteriaList.add(
+        new FilterCriteria(
+            FilterLogicalOperator.OR,
+            ascending
+                ? List.of(
+                    after.greaterOrNotSet(cursor.value()).build(),
+                    uuid.greater(cursor.uuid()).build())
+                : List.of(
+                    after.lessOrNotSet(cursor.value()).build(), uuid.less(cursor.uuid()).build())));
+    filtering.setFilterCriteriaList(filterCriteriaList);
+    setFiltering(filtering);
+  }
+
+  /**
+   * @return the cursor of {@link #seek(BTCursor)}
+   */
+  public BTCursor getCursor() {
+    return cursor;
+  }
+
+  /**
+   * @return the order of the rows apart from the uuid in cursor mode, otherwise null
+   */
+  public Order getSortOrder() {
+    return sortOrder;
+  }
+
+  /**
+   * @return offset of the first row in the table (the offset requested by bootstrap-table)
+   */
+  public int getTableOffset() {
+    return tableOffset;
+  }
+
+  public boolean isCursorMode() {
+    return sortOrder != null;
+  }
 }
@@ -1,5 +1,6 @@
 package io.github.dbmdz.cudami.model.bootstraptable;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import de.digitalcollections.model.list.paging.PageResponse;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
@@ -8,6 +9,12 @@ public class BTResponse<T extends Object> {
   private List<T> rows;
   private long total;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String cursor;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Integer offset;
+
   public BTResponse() {}
 
   public BTResponse(PageResponse<T> pageResponse) {
@@ -15,6 +22,47 @@ public class BTResponse<T extends Object> {
     total = pageResponse.getTotalElements();
   }
 
+  /**
+   * In cursor mode of the request (see {@link BTRequest#seek(BTCursor)}), the response has its
+   * offset and the cursor of the following page, if there is one and the last row has a sort key.
+   * As the backend only counts the rows after the cursor of a keyset request, the rows before are
+   * added to the total.
+   *
+   * @param pageResponse response of the backend to the request
+   * @param btRequest the request
+   */
+  public BTResponse(PageResponse<T> pageResponse, BTRequest btRequest) {
+    this(pageResponse);
+    if (!btRequest.isCursorMode()) {
+      return;
+    }
+    offset = btRequest.getTableOffset();
+    if (btRequest.getCursor() != null) {
+      total += btRequest.getTableOffset();
+    }
+    if (rows != null && !rows.isEmpty() && btRequest.getTableOffset() + rows.size() < total) {
+      BTCursor next = BTCursor.after(rows.get(rows.size() - 1), btRequest.getSortOrder());
+      if (next != null) {
+        cursor = next.encode();
+      }
+    }
+  }
+
+  /**
+   * @return token of the cursor of the following page, or null
+   */
+  public String getCursor() {
+    return cursor;
+  }
+
+  /**
+   * @return offset of the first row in the table in cursor mode (the offset requested by
+   *     bootstrap-table), otherwise null
+   */
+  public Integer getOffset() {
+    return offset;
+  }
+
   @SuppressFBWarnings
   public List<T> getRows() {
     return rows;
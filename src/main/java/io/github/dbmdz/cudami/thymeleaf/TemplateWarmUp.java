@@ -0,0 +1,160 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+/**
+ * Warm-up of the templates at startup, so that the first requests after a deployment do not pay for
+ * parsing the templates (and the layouts they decorate) or for running the expression evaluation in
+ * the interpreter.
+ *
+ * <ul>
+ *   <li>Every template is processed once without a model. Most of them fail for lack of a model,
+ *       but not before they are parsed and cached.
+ *   <li>If "cudami.templates.warm-up.render-iterations" is greater than 0, the list pages
+ *       ("&lt;menu&gt;/list") are rendered that many times with a model like the one of their
+ *       controllers. Other pages need an object from the backend.
+ * </ul>
+ *
+ * <p>The warm-up runs while the application is started (in the listeners of the {@link
+ * ApplicationReadyEvent}), so readiness is reported when it is finished. It is skipped if the
+ * template cache is disabled ("spring.thymeleaf.cache").
+ */
+@Component
+public class TemplateWarmUp {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TemplateWarmUp.class);
+
+  private static final String TEMPLATES = "templates/";
+  private static final String SUFFIX = ".html";
+
+  private final SpringTemplateEngine templateEngine;
+  private final ViewRenderer viewRenderer;
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final boolean enabled;
+  private final int renderIterations;
+  private final Locale locale;
+  private final String version;
+
+  public TemplateWarmUp(
+      SpringTemplateEngine templateEngine,
+      ViewRenderer viewRenderer,
+      ResourcePatternResolver resourcePatternResolver,
+      @Value("${spring.thymeleaf.cache:true}") boolean templateCache,
+      @Value("${cudami.templates.warm-up.enabled:true}") boolean enabled,
+      @Value("${cudami.templates.warm-up.render-iterations:0}") int renderIterations,
+      @Value("${cudami.defaultLocale-gui:en}") Locale locale,
+      @Value("${info.app.project.version:unknown}") String version) {
+    this.templateEngine = templateEngine;
+    this.viewRenderer = viewRenderer;
+    this.resourcePatternResolver = resourcePatternResolver;
+    this.enabled = enabled && templateCache;
+    this.renderIterations = renderIterations;
+    this.locale = locale;
+    this.version = version;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onApplicationReady() {
+    if (!enabled) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    List<String> templates;
+    try {
+      templates = findTemplates();
+    } catch (IOException e) {
+      LOGGER.warn("Cannot find templates for warm-up: {}", e.getMessage());
+      return;
+    }
+    templates.forEach(this::parse);
+    long parsed = System.currentTimeMillis();
+
+    int rendered = 0;
+    int failed = 0;
+    for (int i = 0; i < renderIterations; i++) {
+      for (String template : templates) {
+        if (!template.endsWith("/list")) {
+          continue;
+        }
+        if (render(template)) {
+          rendered++;
+        } else {
+          failed++;
+        }
+      }
+    }
+    LOGGER.info(
+        "Warm-up of {} templates: parsed in {} ms, {} list pages rendered ({} failed) in {} ms",
+        templates.size(),
+        parsed - start,
+        rendered,
+        failed,
+        System.currentTimeMillis() - parsed);
+  }
+
+  /**
+   * @return names of all templates (e.g. "collections/list"), sorted
+   */
+  List<String> findTemplates() throws IOException {
+    TreeSet<String> templates = new TreeSet<>();
+    for (Resource resource :
+        resourcePatternResolver.getResources("classpath*:" + TEMPLATES + "**/*" + SUFFIX)) {
+      String url = resource.getURL().toString();
+      int index = url.lastIndexOf("/" + TEMPLATES);
+      if (index >= 0) {
+        templates.add(
+            url.substring(index + TEMPLATES.length() + 1, url.length() - SUFFIX.length()));
+      }
+    }
+    return new ArrayList<>(templates);
+  }
+
+  private void parse(String template) {
+    try {
+      templateEngine.process(template, new Context(locale), Writer.nullWriter());
+    } catch (RuntimeException e) {
+      // the template is parsed and cached before processing fails for lack of a model
+      LOGGER.debug("Processing {} without model failed: {}", template, e.getMessage());
+    }
+  }
+
+  boolean render(String template) {
+    String menu = template.substring(0, template.indexOf('/'));
+    Map<String, Object> model =
+        Map.of(
+            "menu",
+            menu,
+            "version",
+            version,
+            "existingLanguages",
+            List.of(locale),
+            "dataLanguage",
+            locale.getLanguage());
+    try {
+      viewRenderer.warmUp(template, model, locale);
+      return true;
+    } catch (Exception e) {
+      LOGGER.debug("Rendering {} failed: {}", template, e.getMessage());
+      return false;
+    }
+  }
+}
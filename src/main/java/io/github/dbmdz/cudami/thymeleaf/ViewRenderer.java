@@ -0,0 +1,194 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+/** Renders views like the pages of a controller, but into a string instead of the response. */
+@Component
+public class ViewRenderer {
+
+  private final ThymeleafViewResolver viewResolver;
+  private final ServletContext servletContext;
+
+  public ViewRenderer(ThymeleafViewResolver viewResolver, ServletContext servletContext) {
+    this.viewResolver = viewResolver;
+    this.servletContext = servletContext;
+  }
+
+  /**
+   * Render a view for the request being handled, e.g. to cache its output. The view sees the actual
+   * request, only its output (and the headers it would set) are kept out of the actual response.
+   *
+   * @param viewName name of the view, as returned by a controller
+   * @param model model of the view
+   * @param locale locale of the user interface
+   * @param request the request being handled
+   * @param response the response to the request, not written to
+   * @return the rendered view
+   * @throws Exception if the view cannot be resolved or rendered
+   */
+  public String render(
+      String viewName,
+      Map<String, ?> model,
+      Locale locale,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws Exception {
+    StringWriter html = new StringWriter();
+    PrintWriter writer = new PrintWriter(html);
+    resolve(viewName, locale).render(model, request, new CapturingResponse(response, writer));
+    writer.flush();
+    return html.toString();
+  }
+
+  /**
+   * Render a view outside of a request, only to warm up the template engine (e.g. at startup); the
+   * output is discarded. The view gets a request of its own, which knows its attributes, the locale
+   * and the context path, and has no session, parameters, headers or user. Everything else it is
+   * asked for fails, instead of answering something that would render another page.
+   *
+   * @param viewName name of the view, as returned by a controller
+   * @param model model of the view
+   * @param locale locale of the user interface
+   * @throws Exception if the view cannot be resolved or rendered
+   */
+  public void warmUp(String viewName, Map<String, ?> model, Locale locale) throws Exception {
+    resolve(viewName, locale)
+        .render(model, warmUpRequest(locale), warmUpResponse(new PrintWriter(Writer.nullWriter())));
+  }
+
+  private View resolve(String viewName, Locale locale) throws Exception {
+    View view = viewResolver.resolveViewName(viewName, locale);
+    if (view == null) {
+      throw new IllegalArgumentException("Unknown view " + viewName);
+    }
+    return view;
+  }
+
+  private HttpServletRequest warmUpRequest(Locale locale) {
+    Map<String, Object> attributes = new HashMap<>();
+    return (HttpServletRequest)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {HttpServletRequest.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getAttribute" -> attributes.get((String) args[0]);
+                  case "getAttributeNames" -> Collections.enumeration(attributes.keySet());
+                  case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                  case "removeAttribute" -> attributes.remove((String) args[0]);
+                  case "getLocale" -> locale;
+                  case "getLocales" -> Collections.enumeration(List.of(locale));
+                  case "getContextPath", "getRequestURI" -> servletContext.getContextPath();
+                  case "getServletPath" -> "";
+                  case "getServletContext" -> servletContext;
+                  case "getCharacterEncoding" -> StandardCharsets.UTF_8.name();
+                  case "getMethod" -> "GET";
+                  // no session, parameters, headers or user
+                  case "getSession",
+                          "getParameter",
+                          "getHeader",
+                          "getQueryString",
+                          "getPathInfo",
+                          "getUserPrincipal",
+                          "getRemoteUser" ->
+                      null;
+                  case "getParameterMap" -> Collections.emptyMap();
+                  case "getParameterNames", "getHeaderNames", "getHeaders" ->
+                      Collections.emptyEnumeration();
+                  case "isUserInRole", "isSecure" -> false;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "warm-up request";
+                  default ->
+                      throw new UnsupportedOperationException(
+                          method.getName() + " of a warm-up request");
+                });
+  }
+
+  /** Response writing to the given writer and keeping urls as they are. */
+  private static HttpServletResponse warmUpResponse(PrintWriter writer) {
+    return (HttpServletResponse)
+        Proxy.newProxyInstance(
+            ViewRenderer.class.getClassLoader(),
+            new Class<?>[] {HttpServletResponse.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getWriter" -> writer;
+                  case "encodeURL", "encodeRedirectURL" -> args[0];
+                  case "getCharacterEncoding" -> StandardCharsets.UTF_8.name();
+                  case "setContentType", "setCharacterEncoding", "setLocale", "flushBuffer" -> null;
+                  case "isCommitted" -> false;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "warm-up response";
+                  default ->
+                      throw new UnsupportedOperationException(
+                          method.getName() + " of a warm-up response");
+                });
+  }
+
+  /**
+   * Response of the actual request, that captures the output of a view. Urls are kept as they are,
+   * without a session id, since the output may be shared with other sessions.
+   */
+  private static class CapturingResponse extends HttpServletResponseWrapper {
+
+    private final PrintWriter writer;
+
+    CapturingResponse(HttpServletResponse response, PrintWriter writer) {
+      super(response);
+      this.writer = writer;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+      return writer;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+      throw new IllegalStateException("The output of a view is captured by its writer");
+    }
+
+    @Override
+    public String encodeURL(String url) {
+      return url;
+    }
+
+    @Override
+    public String encodeRedirectURL(String url) {
+      return url;
+    }
+
+    @Override
+    public void setContentType(String type) {}
+
+    @Override
+    public void setCharacterEncoding(String charset) {}
+
+    @Override
+    public void setLocale(Locale locale) {}
+
+    @Override
+    public void flushBuffer() {
+      writer.flush();
+    }
+  }
+}
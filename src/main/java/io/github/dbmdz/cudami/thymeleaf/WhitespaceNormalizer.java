@@ -0,0 +1,146 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+/**
+ * Normalizes the whitespace of a HTML template before it is parsed: text consisting of whitespace
+ * only is removed, and whitespace inside of tags (between the name and the attributes) is reduced
+ * to single spaces. Attribute values, comments, CDATA sections and doctypes are kept as they are.
+ */
+public final class WhitespaceNormalizer {
+
+  private WhitespaceNormalizer() {}
+
+  /**
+   * @param html source of a HTML template
+   * @return the source with normalized whitespace
+   */
+  public static String normalize(String html) {
+    StringBuilder out = new StringBuilder(html.length());
+    int length = html.length();
+    int i = 0;
+    while (i < length) {
+      if (html.startsWith("<!--", i)) {
+        i = copyThrough(html, i, "-->", out);
+      } else if (html.startsWith("<![CDATA[", i)) {
+        i = copyThrough(html, i, "]]>", out);
+      } else if (html.startsWith("<!", i) || html.startsWith("<?", i)) {
+        i = copyThrough(html, i, ">", out);
+      } else if (isTagStart(html, i)) {
+        int end = copyTag(html, i, out);
+        String rawTextElement = getRawTextElement(html, i, end);
+        if (rawTextElement != null) {
+          // content of scripts and styles is no markup, even if it contains a "<"
+          int close = indexOfIgnoreCase(html, "</" + rawTextElement, end);
+          end = copyText(html, end, close < 0 ? length : close, out);
+        }
+        i = end;
+      } else {
+        i = copyText(html, i, nextMarkup(html, i), out);
+      }
+    }
+    return out.toString();
+  }
+
+  private static int copyThrough(String html, int start, String terminator, StringBuilder out) {
+    int end = html.indexOf(terminator, start);
+    end = end < 0 ? html.length() : end + terminator.length();
+    out.append(html, start, end);
+    return end;
+  }
+
+  /** Copy a start or end tag, reducing whitespace outside of attribute values. */
+  private static int copyTag(String html, int start, StringBuilder out) {
+    int length = html.length();
+    char quote = 0;
+    int i = start;
+    while (i < length) {
+      char c = html.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+        out.append(c);
+        i++;
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+        out.append(c);
+        i++;
+      } else if (c == '>') {
+        out.append(c);
+        return i + 1;
+      } else if (Character.isWhitespace(c)) {
+        while (i < length && Character.isWhitespace(html.charAt(i))) {
+          i++;
+        }
+        if (i < length && html.charAt(i) != '>') {
+          out.append(' ');
+        }
+      } else {
+        out.append(c);
+        i++;
+      }
+    }
+    return length;
+  }
+
+  /** Copy text, unless it consists of whitespace only. */
+  private static int copyText(String html, int start, int end, StringBuilder out) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(html.charAt(i))) {
+        out.append(html, start, end);
+        break;
+      }
+    }
+    return end;
+  }
+
+  private static int nextMarkup(String html, int start) {
+    int i = html.indexOf('<', start + 1);
+    while (i >= 0 && !isMarkupStart(html, i)) {
+      i = html.indexOf('<', i + 1);
+    }
+    return i < 0 ? html.length() : i;
+  }
+
+  private static boolean isMarkupStart(String html, int i) {
+    return isTagStart(html, i) || html.startsWith("<!", i) || html.startsWith("<?", i);
+  }
+
+  private static boolean isTagStart(String html, int i) {
+    if (i + 1 >= html.length() || html.charAt(i) != '<') {
+      return false;
+    }
+    char next = html.charAt(i + 1);
+    if (next == '/') {
+      return i + 2 < html.length() && Character.isLetter(html.charAt(i + 2));
+    }
+    return Character.isLetter(next);
+  }
+
+  /**
+   * @return "script" or "style" if the tag at this position opens one of them, else null
+   */
+  private static String getRawTextElement(String html, int start, int end) {
+    if (html.charAt(end - 2) == '/') {
+      // self-closing
+      return null;
+    }
+    for (String name : new String[] {"script", "style"}) {
+      int nameEnd = start + 1 + name.length();
+      if (html.regionMatches(true, start + 1, name, 0, name.length())
+          && nameEnd < html.length()
+          && (html.charAt(nameEnd) == '>' || Character.isWhitespace(html.charAt(nameEnd)))) {
+        return name;
+      }
+    }
+    return null;
+  }
+
+  private static int indexOfIgnoreCase(String html, String search, int start) {
+    for (int i = start; i <= html.length() - search.length(); i++) {
+      if (html.regionMatches(true, i, search, 0, search.length())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,92 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import org.springframework.util.FileCopyUtils;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
+import org.thymeleaf.templateresource.ITemplateResource;
+
+/**
+ * Resolves HTML templates by another resolver and normalizes their whitespace (see {@link
+ * WhitespaceNormalizer}) when they are read. Since parsed templates are cached, this happens once
+ * per template instead of on every rendering.
+ */
+public class WhitespaceNormalizingTemplateResolver implements ITemplateResolver {
+
+  private final ITemplateResolver delegate;
+
+  public WhitespaceNormalizingTemplateResolver(ITemplateResolver delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Integer getOrder() {
+    return delegate.getOrder();
+  }
+
+  @Override
+  public TemplateResolution resolveTemplate(
+      IEngineConfiguration configuration,
+      String ownerTemplate,
+      String template,
+      Map<String, Object> templateResolutionAttributes) {
+    TemplateResolution resolution =
+        delegate.resolveTemplate(
+            configuration, ownerTemplate, template, templateResolutionAttributes);
+    if (resolution == null || resolution.getTemplateMode() != TemplateMode.HTML) {
+      return resolution;
+    }
+    return new TemplateResolution(
+        new NormalizedTemplateResource(resolution.getTemplateResource()),
+        resolution.isTemplateResourceExistenceVerified(),
+        resolution.getTemplateMode(),
+        resolution.getUseDecoupledLogic(),
+        resolution.getValidity());
+  }
+
+  private static class NormalizedTemplateResource implements ITemplateResource {
+
+    private final ITemplateResource resource;
+
+    NormalizedTemplateResource(ITemplateResource resource) {
+      this.resource = resource;
+    }
+
+    @Override
+    public String getDescription() {
+      return resource.getDescription();
+    }
+
+    @Override
+    public String getBaseName() {
+      return resource.getBaseName();
+    }
+
+    @Override
+    public boolean exists() {
+      return resource.exists();
+    }
+
+    @Override
+    public Reader reader() throws IOException {
+      return new StringReader(
+          WhitespaceNormalizer.normalize(FileCopyUtils.copyToString(resource.reader())));
+    }
+
+    @Override
+    public ITemplateResource relative(String relativeLocation) {
+      // e.g. the decoupled logic of the template, which is no HTML
+      return resource.relative(relativeLocation);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package io.github.dbmdz.cudami.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.digitalcollections.model.exception.TechnicalException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.MDC;
+
+@DisplayName("The BackendCallScope")
+class BackendCallScopeTest {
+
+  private BackendCalls backendCalls;
+
+  @BeforeEach
+  public void beforeEach() {
+    backendCalls = new BackendCalls(Executors.newFixedThreadPool(4), Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  public void afterEach() {
+    backendCalls.close();
+  }
+
+  @DisplayName("runs the calls concurrently")
+  @Test
+  @Timeout(5)
+  public void runsConcurrently() throws TechnicalException {
+    // each call only finishes when the other one has started
+    CountDownLatch started = new CountDownLatch(2);
+    try (BackendCallScope calls = backendCalls.open()) {
+      BackendCallScope.Fork<String> first = calls.fork("first", () -> awaitOther(started, "a"));
+      BackendCallScope.Fork<String> second = calls.fork("second", () -> awaitOther(started, "b"));
+
+      assertThat(first.join()).isEqualTo("a");
+      assertThat(second.join()).isEqualTo("b");
+    }
+  }
+
+  @DisplayName("falls back for optional calls that miss the deadline and cancels them")
+  @Test
+  @Timeout(5)
+  public void degradesOnDeadline() throws TechnicalException, InterruptedException {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    try (BackendCallScope calls = backendCalls.open(Duration.ofMillis(100))) {
+      BackendCallScope.Fork<String> slow =
+          calls.fork(
+              "slow",
+              () -> {
+                try {
+                  Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                  interrupted.countDown();
+                }
+                return "slow";
+              });
+
+      assertThat(slow.joinOrElse("fallback")).isEqualTo("fallback");
+      assertThatThrownBy(slow::join).isInstanceOf(TechnicalException.class);
+    }
+    assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @DisplayName("runs the calls with the MDC of the request")
+  @Test
+  @Timeout(5)
+  public void keepsRequestId() throws TechnicalException {
+    MDC.put("request_id", "4711");
+    try (BackendCallScope calls = backendCalls.open()) {
+      BackendCallScope.Fork<String> call = calls.fork("call", () -> MDC.get("request_id"));
+
+      assertThat(call.join()).isEqualTo("4711");
+    } finally {
+      MDC.clear();
+    }
+    // the threads of the pool do not keep it
+    try (BackendCallScope calls = backendCalls.open()) {
+      List<BackendCallScope.Fork<String>> forks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        forks.add(calls.fork("call " + i, () -> MDC.get("request_id")));
+      }
+      for (BackendCallScope.Fork<String> fork : forks) {
+        assertThat(fork.join()).isNull();
+      }
+    }
+  }
+
+  private static String awaitOther(CountDownLatch started, String result)
+      throws TechnicalException {
+    started.countDown();
+    try {
+      if (!started.await(2, TimeUnit.SECONDS)) {
+        throw new TechnicalException("calls did not run concurrently");
+      }
+    } catch (InterruptedException e) {
+      throw new TechnicalException(e);
+    }
+    return result;
+  }
+}
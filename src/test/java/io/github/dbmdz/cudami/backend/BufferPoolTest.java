@@ -0,0 +1,49 @@
+package io.github.dbmdz.cudami.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The Buffer Pool")
+class BufferPoolTest {
+
+  @DisplayName("hands out its buffers again after they were released")
+  @Test
+  public void reusesBuffers() {
+    BufferPool pool = new BufferPool(2, 16);
+
+    byte[] first = pool.acquire(Duration.ZERO);
+    byte[] second = pool.acquire(Duration.ZERO);
+    assertThat(pool.getInUse()).isEqualTo(2);
+
+    pool.release(first);
+    assertThat(pool.acquire(Duration.ZERO)).isSameAs(first);
+    pool.release(first);
+    pool.release(second);
+    assertThat(pool.getInUse()).isZero();
+  }
+
+  @DisplayName("rejects if no buffer is released in time")
+  @Test
+  public void rejectsWhenExhausted() {
+    BufferPool pool = new BufferPool(1, 16);
+    pool.acquire(Duration.ZERO);
+
+    assertThatThrownBy(() -> pool.acquire(Duration.ofMillis(10)))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @DisplayName("ignores foreign buffers")
+  @Test
+  public void ignoresForeignBuffers() {
+    BufferPool pool = new BufferPool(1, 16);
+    pool.release(new byte[8]);
+
+    assertThat(pool.acquire(Duration.ZERO)).hasSize(16);
+    assertThat(pool.getInUse()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,181 @@
+package io.github.dbmdz.cudami.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("The CoalescingHttpClient")
+class CoalescingHttpClientTest {
+
+  private HttpClient delegate;
+  private CoalescingHttpClient client;
+  private CountDownLatch backendResponds;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    backendResponds = new CountDownLatch(1);
+    executor = Executors.newFixedThreadPool(4);
+    delegate = mock(HttpClient.class);
+    when(delegate.send(any(HttpRequest.class), any()))
+        .thenAnswer(
+            invocation -> {
+              backendResponds.await(5, TimeUnit.SECONDS);
+              HttpRequest request = invocation.getArgument(0);
+              return new BufferedHttpResponse<>(
+                  request,
+                  200,
+                  HttpHeaders.of(Map.of(), (name, value) -> true),
+                  request.uri().getQuery().getBytes(StandardCharsets.UTF_8),
+                  HttpClient.Version.HTTP_1_1);
+            });
+    client = new CoalescingHttpClient(delegate);
+  }
+
+  @AfterEach
+  public void afterEach() {
+    executor.shutdownNow();
+  }
+
+  private Callable<String> find(String query) {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create("http://localhost:9000/v6/collections?" + query))
+            .GET()
+            .build();
+    return () -> client.send(request, BodyHandlers.ofString()).body();
+  }
+
+  @DisplayName("shares one backend call between concurrent identical reads")
+  @Test
+  @Timeout(10)
+  public void coalescesIdenticalReads() throws Exception {
+    String query = "pageNumber=0&pageSize=10&sortBy=label_de.asc";
+    List<Future<String>> results =
+        List.of(executor.submit(find(query)), executor.submit(find(query)));
+    // wait until the second caller has joined the first one
+    while (client.getCoalescedRequests() < 1) {
+      Thread.sleep(10);
+    }
+    backendResponds.countDown();
+
+    for (Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(query);
+    }
+    verify(delegate, times(1)).send(any(HttpRequest.class), any());
+  }
+
+  @DisplayName("does not share backend calls of different reads")
+  @Test
+  public void keepsDifferentReadsApart() throws Exception {
+    backendResponds.countDown();
+    Future<String> first = executor.submit(find("pageNumber=0&pageSize=10"));
+    Future<String> second = executor.submit(find("pageNumber=1&pageSize=10"));
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("pageNumber=0&pageSize=10");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("pageNumber=1&pageSize=10");
+    verify(delegate, times(2)).send(any(HttpRequest.class), any());
+  }
+
+  @DisplayName("sends a read again when the shared call has been interrupted")
+  @Test
+  @Timeout(10)
+  public void retriesInterruptedCall() throws Exception {
+    String query = "pageNumber=0&pageSize=10";
+    Future<String> interrupted = executor.submit(find(query));
+    verify(delegate, timeout(5000)).send(any(HttpRequest.class), any());
+    Future<String> waiting = executor.submit(find(query));
+    while (client.getCoalescedRequests() < 1) {
+      Thread.sleep(10);
+    }
+
+    // e.g. at the deadline of the backend calls of another page
+    interrupted.cancel(true);
+    verify(delegate, timeout(5000).times(2)).send(any(HttpRequest.class), any());
+    backendResponds.countDown();
+
+    assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(query);
+  }
+
+  @DisplayName("does not share a read started before a write with a read after it")
+  @Test
+  @Timeout(10)
+  public void endsSharingAtWrites() throws Exception {
+    AtomicInteger version = new AtomicInteger(1);
+    doAnswer(
+            invocation -> {
+              HttpRequest request = invocation.getArgument(0);
+              if (!"GET".equals(request.method())) {
+                version.incrementAndGet();
+                return new BufferedHttpResponse<>(
+                    request,
+                    200,
+                    HttpHeaders.of(Map.of(), (name, value) -> true),
+                    new byte[0],
+                    HttpClient.Version.HTTP_1_1);
+              }
+              String body = "v" + version.get();
+              backendResponds.await(5, TimeUnit.SECONDS);
+              return new BufferedHttpResponse<>(
+                  request,
+                  200,
+                  HttpHeaders.of(Map.of(), (name, value) -> true),
+                  body.getBytes(StandardCharsets.UTF_8),
+                  HttpClient.Version.HTTP_1_1);
+            })
+        .when(delegate)
+        .send(any(HttpRequest.class), any());
+    // as wired by SpringConfigBackend
+    EntityCachingHttpClient cachingClient =
+        new EntityCachingHttpClient(client, 1024 * 1024, Duration.ofMinutes(1));
+    URI uri = URI.create("http://localhost:9000/v6/collections/" + UUID.randomUUID());
+    Callable<String> get =
+        () ->
+            cachingClient
+                .send(HttpRequest.newBuilder(uri).GET().build(), BodyHandlers.ofString())
+                .body();
+
+    Future<String> leader = executor.submit(get);
+    verify(delegate, timeout(5000)).send(any(HttpRequest.class), any());
+    cachingClient.send(
+        HttpRequest.newBuilder(uri).PUT(BodyPublishers.ofString("{}")).build(),
+        BodyHandlers.discarding());
+    Future<String> joiner = executor.submit(get);
+    verify(delegate, timeout(5000).times(3)).send(any(HttpRequest.class), any());
+    backendResponds.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+    assertThat(joiner.get(5, TimeUnit.SECONDS)).isEqualTo("v2");
+    assertThat(client.getCoalescedRequests()).isZero();
+    assertThat(get.call()).isEqualTo("v2");
+    verify(delegate, times(3)).send(any(HttpRequest.class), any());
+  }
+}
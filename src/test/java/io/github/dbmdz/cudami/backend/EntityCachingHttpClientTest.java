@@ -0,0 +1,96 @@
+package io.github.dbmdz.cudami.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The EntityCachingHttpClient")
+class EntityCachingHttpClientTest {
+
+  private static final String SERVER = "http://localhost:9000";
+
+  private HttpClient delegate;
+  private EntityCachingHttpClient client;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    delegate = mock(HttpClient.class);
+    when(delegate.send(any(HttpRequest.class), any()))
+        .thenAnswer(
+            invocation -> {
+              HttpRequest request = invocation.getArgument(0);
+              byte[] body = request.uri().toString().getBytes(StandardCharsets.UTF_8);
+              return new BufferedHttpResponse<>(
+                  request,
+                  200,
+                  HttpHeaders.of(Map.of(), (name, value) -> true),
+                  body,
+                  HttpClient.Version.HTTP_1_1);
+            });
+    client = new EntityCachingHttpClient(delegate, 1024 * 1024, Duration.ofMinutes(1));
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(URI.create(SERVER + path)).GET().build();
+  }
+
+  @DisplayName("serves repeated reads by uuid from the cache")
+  @Test
+  public void cachesGetByUuid() throws Exception {
+    HttpRequest request = get("/v6/collections/" + UUID.randomUUID());
+
+    String first = client.send(request, BodyHandlers.ofString()).body();
+    String second = client.send(request, BodyHandlers.ofString()).body();
+
+    assertThat(second).isEqualTo(first).isEqualTo(request.uri().toString());
+    verify(delegate, times(1)).send(any(HttpRequest.class), any());
+  }
+
+  @DisplayName("does not cache paged lists or requests with query parameters")
+  @Test
+  public void ignoresOtherReads() throws Exception {
+    HttpRequest list = get("/v6/collections?pageNumber=0&pageSize=10");
+    HttpRequest withParams = get("/v6/collections/" + UUID.randomUUID() + "?active=true");
+
+    client.send(list, BodyHandlers.ofString());
+    client.send(list, BodyHandlers.ofString());
+    client.send(withParams, BodyHandlers.ofString());
+    client.send(withParams, BodyHandlers.ofString());
+
+    verify(delegate, times(4)).send(any(HttpRequest.class), any());
+  }
+
+  @DisplayName("invalidates all object types of a uuid on writes")
+  @Test
+  public void invalidatesOnWrite() throws Exception {
+    UUID uuid = UUID.randomUUID();
+    client.send(get("/v6/collections/" + uuid), BodyHandlers.ofString());
+    client.send(get("/v6/identifiables/" + uuid), BodyHandlers.ofString());
+    assertThat(client.getCache().estimatedSize()).isEqualTo(2);
+
+    HttpRequest update =
+        HttpRequest.newBuilder(URI.create(SERVER + "/v6/collections/" + uuid))
+            .PUT(BodyPublishers.ofString("{}"))
+            .build();
+    client.send(update, BodyHandlers.ofString());
+
+    assertThat(client.getCache().asMap()).isEmpty();
+  }
+}
@@ -0,0 +1,73 @@
+package io.github.dbmdz.cudami.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("The FileResourceUploadClient")
+class FileResourceUploadClientTest {
+
+  private ServerSocket backend;
+  private FileResourceUploadClient client;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    // accepts connections, but never answers
+    backend = new ServerSocket(0);
+    UploadProperties properties = new UploadProperties();
+    properties.setBuffers(1);
+    properties.setSocketTimeout(Duration.ofMillis(200));
+    client =
+        new FileResourceUploadClient(
+            "http://localhost:" + backend.getLocalPort(),
+            new ObjectMapper(),
+            properties,
+            new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  public void afterEach() throws Exception {
+    client.close();
+    backend.close();
+  }
+
+  @DisplayName("aborts an upload the backend does not answer and frees its buffer")
+  @Test
+  @Timeout(5)
+  public void timesOut() throws Exception {
+    Thread accepting =
+        new Thread(
+            () -> {
+              try (Socket socket = backend.accept()) {
+                Thread.sleep(5000);
+              } catch (Exception e) {
+                // closed at the end of the test
+              }
+            });
+    accepting.start();
+    try {
+      assertThatThrownBy(
+              () ->
+                  client.upload(
+                      new ByteArrayInputStream("binary".getBytes(StandardCharsets.UTF_8)),
+                      "a.txt",
+                      "text/plain"))
+          .isInstanceOf(BackendTimeoutException.class);
+      assertThat(client.getBufferPool().getInUse()).isZero();
+    } finally {
+      accepting.interrupt();
+    }
+  }
+}
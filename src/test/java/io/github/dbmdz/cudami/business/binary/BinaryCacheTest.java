@@ -0,0 +1,99 @@
+package io.github.dbmdz.cudami.business.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("The BinaryCache")
+class BinaryCacheTest {
+
+  private static final byte[] BINARY = new byte[100_000];
+
+  @TempDir Path directory;
+
+  private HttpServer backend;
+  private final AtomicInteger requests = new AtomicInteger();
+  private ExecutorService executor;
+  private BinaryCache cache;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    backend = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    // without content length (chunked)
+    backend.createContext(
+        "/binary",
+        exchange -> {
+          requests.incrementAndGet();
+          exchange.sendResponseHeaders(200, 0);
+          try (OutputStream body = exchange.getResponseBody()) {
+            body.write(BINARY);
+          }
+        });
+    backend.start();
+    executor = Executors.newSingleThreadExecutor();
+    BinaryProperties.Cache properties = new BinaryProperties.Cache();
+    properties.setDirectory(directory);
+    cache =
+        new BinaryCache(properties, HttpClient.newHttpClient(), Duration.ofSeconds(5), executor);
+  }
+
+  @AfterEach
+  public void afterEach() {
+    executor.shutdownNow();
+    backend.stop(0);
+  }
+
+  private URI uri() {
+    return URI.create("http://localhost:" + backend.getAddress().getPort() + "/binary");
+  }
+
+  private void copy(String key, long size) throws Exception {
+    cache.copyInBackground(key, uri(), size);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @DisplayName("copies a binary of the announced size")
+  @Test
+  public void copies() throws Exception {
+    copy("key", BINARY.length);
+
+    assertThat(Files.size(cache.get("key"))).isEqualTo(BINARY.length);
+  }
+
+  @DisplayName("does not copy a binary of unknown size")
+  @Test
+  public void skipsUnknownSize() throws Exception {
+    copy("key", 0);
+
+    assertThat(cache.get("key")).isNull();
+    assertThat(requests).hasValue(0);
+  }
+
+  @DisplayName("aborts the copy of a binary larger than announced")
+  @Test
+  public void abortsLargerBinary() throws Exception {
+    copy("key", 1000);
+
+    assertThat(cache.get("key")).isNull();
+    try (var files = Files.list(directory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.dbmdz.cudami.business.headword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.entity.CudamiHeadwordEntriesClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.entity.HeadwordEntry;
+import de.digitalcollections.model.list.paging.PageRequest;
+import de.digitalcollections.model.list.paging.PageResponse;
+import de.digitalcollections.model.semantic.Headword;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("The HeadwordEntryIndex")
+class HeadwordEntryIndexTest {
+
+  private CudamiHeadwordEntriesClient headwordEntriesClient;
+  private HeadwordEntryIndex index;
+
+  @BeforeEach
+  public void beforeEach() {
+    CudamiClient cudamiClient = mock(CudamiClient.class);
+    headwordEntriesClient = mock(CudamiHeadwordEntriesClient.class);
+    when(cudamiClient.forHeadwordEntries()).thenReturn(headwordEntriesClient);
+    index =
+        new HeadwordEntryIndex(
+            cudamiClient, 100, Duration.ofMinutes(1), false, mock(ObjectProvider.class));
+  }
+
+  private static HeadwordEntry headwordEntry(UUID headwordUuid) {
+    Headword headword = new Headword();
+    headword.setUuid(headwordUuid);
+    HeadwordEntry headwordEntry = new HeadwordEntry();
+    headwordEntry.setUuid(UUID.randomUUID());
+    headwordEntry.setHeadword(headword);
+    return headwordEntry;
+  }
+
+  @DisplayName("loads the headword entry only once")
+  @Test
+  public void loadsOnce() throws TechnicalException {
+    UUID headwordUuid = UUID.randomUUID();
+    HeadwordEntry headwordEntry = headwordEntry(headwordUuid);
+    when(headwordEntriesClient.getByUuid(headwordEntry.getUuid())).thenReturn(headwordEntry);
+
+    assertThat(index.getHeadwordUuid(headwordEntry.getUuid())).isEqualTo(headwordUuid);
+    assertThat(index.getHeadwordUuid(headwordEntry.getUuid())).isEqualTo(headwordUuid);
+
+    verify(headwordEntriesClient, times(1)).getByUuid(headwordEntry.getUuid());
+  }
+
+  @DisplayName("preloads the headwords of all headword entries")
+  @Test
+  public void preloads() throws TechnicalException {
+    List<HeadwordEntry> headwordEntries =
+        List.of(headwordEntry(UUID.randomUUID()), headwordEntry(UUID.randomUUID()));
+    when(headwordEntriesClient.find(any(PageRequest.class)))
+        .thenAnswer(
+            invocation ->
+                new PageResponse<>(
+                    headwordEntries, invocation.getArgument(0), headwordEntries.size()));
+
+    assertThat(index.preload()).isEqualTo(2);
+    for (HeadwordEntry headwordEntry : headwordEntries) {
+      assertThat(index.getHeadwordUuid(headwordEntry.getUuid()))
+          .isEqualTo(headwordEntry.getHeadword().getUuid());
+    }
+
+    verify(headwordEntriesClient, never()).getByUuid(any());
+  }
+}
@@ -0,0 +1,74 @@
+package io.github.dbmdz.cudami.business.i18n;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.CudamiLocalesClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+
+@DisplayName("The LanguageService")
+class LanguageServiceTest {
+
+  private CudamiLocalesClient localesClient;
+  private LanguageService languageService;
+
+  @BeforeEach
+  public void beforeEach() throws TechnicalException {
+    CudamiClient cudamiClient = mock(CudamiClient.class);
+    localesClient = mock(CudamiLocalesClient.class);
+    when(cudamiClient.forLocales()).thenReturn(localesClient);
+    when(localesClient.getDefaultLanguage()).thenReturn(Locale.GERMAN);
+    when(localesClient.getAllLanguagesAsLocales())
+        .thenReturn(List.of(Locale.GERMAN, Locale.ENGLISH));
+    languageService =
+        new LanguageService(cudamiClient, List.of(Locale.ENGLISH), mock(MessageSource.class));
+  }
+
+  @DisplayName("loads the languages from the backend only once")
+  @Test
+  public void loadsOnce() throws TechnicalException {
+    assertThat(languageService.getDefaultLanguage()).isEqualTo(Locale.GERMAN);
+    assertThat(languageService.getDefaultLanguage()).isEqualTo(Locale.GERMAN);
+    assertThat(languageService.getAllLanguages()).containsExactly(Locale.ENGLISH, Locale.GERMAN);
+
+    verify(localesClient, times(1)).getDefaultLanguage();
+    verify(localesClient, times(1)).getAllLanguagesAsLocales();
+  }
+
+  @DisplayName("keeps the last snapshot if a refresh fails")
+  @Test
+  public void keepsStaleSnapshotOnError() throws TechnicalException {
+    languageService.getDefaultLanguage();
+    when(localesClient.getDefaultLanguage()).thenThrow(new TechnicalException("backend down"));
+
+    languageService.refreshInBackground();
+
+    assertThat(languageService.getDefaultLanguage()).isEqualTo(Locale.GERMAN);
+  }
+
+  @DisplayName("sorts languages by name in the display locale, prioritised languages first")
+  @Test
+  public void sortsLanguages() {
+    Locale french = Locale.FRENCH;
+    Locale latin = new Locale("la");
+    Locale germanLatin = Locale.forLanguageTag("de-Latn");
+
+    List<Locale> sorted =
+        languageService.sortLanguages(
+            Locale.GERMAN,
+            List.of(latin, Locale.GERMAN, french, Locale.ENGLISH, latin, germanLatin));
+
+    // Englisch (prioritised), Deutsch, Deutsch (Latn), Französisch, Latein
+    assertThat(sorted).containsExactly(Locale.ENGLISH, Locale.GERMAN, germanLatin, french, latin);
+  }
+}
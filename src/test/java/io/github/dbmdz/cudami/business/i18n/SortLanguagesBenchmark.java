@@ -0,0 +1,99 @@
+package io.github.dbmdz.cudami.business.i18n;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the precomputed {@link LanguageOrder} with the former comparator based sorting of {@link
+ * LanguageService#sortLanguages}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.dbmdz.cudami.business.i18n.SortLanguagesBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortLanguagesBenchmark {
+
+  private static final Locale DISPLAY_LOCALE = Locale.GERMAN;
+  private static final List<Locale> PRIORITISED = List.of(Locale.GERMAN, Locale.ENGLISH);
+
+  @Param({"5", "50", "500"})
+  private int locales;
+
+  private List<Locale> languagesToSort;
+  private LanguageOrder languageOrder;
+
+  @Setup
+  public void setup() {
+    List<Locale> available =
+        Arrays.stream(Locale.getAvailableLocales())
+            .filter(l -> !l.getLanguage().isEmpty())
+            .distinct()
+            .sorted(Comparator.comparing(Locale::toLanguageTag))
+            .collect(Collectors.toList());
+    Collections.shuffle(available, new Random(42));
+    languagesToSort = new ArrayList<>(available.subList(0, locales));
+    languagesToSort.set(0, Locale.ENGLISH);
+
+    languageOrder =
+        new LanguageOrder(
+            PRIORITISED,
+            available.stream().map(Locale::getLanguage).collect(Collectors.toSet()),
+            DISPLAY_LOCALE,
+            l -> l.getDisplayLanguage(DISPLAY_LOCALE));
+  }
+
+  @Benchmark
+  public List<Locale> comparator() {
+    return sortWithComparator(DISPLAY_LOCALE, languagesToSort);
+  }
+
+  @Benchmark
+  public List<Locale> languageOrder() {
+    return languageOrder.sort(languagesToSort);
+  }
+
+  /** Sorting as done by {@link LanguageService#sortLanguages} before the {@link LanguageOrder}. */
+  private static List<Locale> sortWithComparator(
+      Locale displayLocale, Collection<Locale> languagesToSort) {
+    List<Locale> sortedLanguages =
+        PRIORITISED.stream().filter(languagesToSort::contains).collect(Collectors.toList());
+    languagesToSort.stream()
+        .filter(l -> !PRIORITISED.contains(l))
+        .sorted(Comparator.comparing(l -> l.getDisplayLanguage(displayLocale)))
+        .distinct()
+        .forEach(sortedLanguages::add);
+    return sortedLanguages;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SortLanguagesBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
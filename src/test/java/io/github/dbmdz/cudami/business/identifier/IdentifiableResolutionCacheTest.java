@@ -0,0 +1,83 @@
+package io.github.dbmdz.cudami.business.identifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import de.digitalcollections.model.identifiable.IdentifiableObjectType;
+import de.digitalcollections.model.identifiable.Identifier;
+import de.digitalcollections.model.identifiable.entity.work.Work;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache.Resolution;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("The IdentifiableResolutionCache")
+class IdentifiableResolutionCacheTest {
+
+  private IdentifiableResolutionCache cache;
+
+  @BeforeEach
+  public void beforeEach() {
+    cache = new IdentifiableResolutionCache(100, Duration.ofMinutes(1), mock(ObjectProvider.class));
+  }
+
+  private static Work work(UUID uuid, String... ids) {
+    Work work = new Work();
+    work.setUuid(uuid);
+    work.setIdentifiableObjectType(IdentifiableObjectType.WORK);
+    Set<Identifier> identifiers = new HashSet<>();
+    for (String id : ids) {
+      Identifier identifier = new Identifier();
+      identifier.setNamespace("gnd");
+      identifier.setId(id);
+      identifiers.add(identifier);
+    }
+    work.setIdentifiers(identifiers);
+    return work;
+  }
+
+  @DisplayName("resolves uuids and identifiers of remembered identifiables")
+  @Test
+  public void resolves() {
+    UUID uuid = UUID.randomUUID();
+    cache.put(work(uuid, "4711"));
+
+    Resolution expected = new Resolution(uuid, IdentifiableObjectType.WORK);
+    assertThat(cache.getByUuid(uuid)).isEqualTo(expected);
+    assertThat(cache.getByIdentifier("gnd", "4711")).isEqualTo(expected);
+    assertThat(cache.getByIdentifier("gnd", "4712")).isNull();
+  }
+
+  @DisplayName("forgets the old identifiers of an updated identifiable")
+  @Test
+  public void invalidatesOldIdentifiers() {
+    UUID uuid = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    cache.put(work(uuid, "4711", "4712"));
+    cache.put(work(other, "0815"));
+
+    cache.invalidate(uuid, work(uuid, "4712"));
+
+    assertThat(cache.getByUuid(uuid)).isNull();
+    assertThat(cache.getByIdentifier("gnd", "4711")).isNull();
+    assertThat(cache.getByIdentifier("gnd", "4712")).isNull();
+    assertThat(cache.getByUuid(other)).isNotNull();
+    assertThat(cache.getByIdentifier("gnd", "0815")).isNotNull();
+  }
+
+  @DisplayName("forgets identifiers taken over by a new identifiable")
+  @Test
+  public void invalidatesIdentifiersOfNewIdentifiable() {
+    UUID deleted = UUID.randomUUID();
+    cache.put(work(deleted, "4711"));
+
+    cache.invalidate(null, work(UUID.randomUUID(), "4711"));
+
+    assertThat(cache.getByIdentifier("gnd", "4711")).isNull();
+  }
+}
@@ -0,0 +1,103 @@
+package io.github.dbmdz.cudami.business.identifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.CudamiIdentifierTypesClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.IdentifierType;
+import de.digitalcollections.model.list.paging.PageRequest;
+import de.digitalcollections.model.list.paging.PageResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The IdentifierNamespaceIndex")
+class IdentifierNamespaceIndexTest {
+
+  private CudamiIdentifierTypesClient identifierTypesClient;
+  private IdentifierNamespaceIndex index;
+
+  @BeforeEach
+  public void beforeEach() throws TechnicalException {
+    CudamiClient cudamiClient = mock(CudamiClient.class);
+    identifierTypesClient = mock(CudamiIdentifierTypesClient.class);
+    when(cudamiClient.forIdentifierTypes()).thenReturn(identifierTypesClient);
+    answer("GND", "viaf");
+    index = new IdentifierNamespaceIndex(cudamiClient);
+  }
+
+  private void answer(String... namespaces) throws TechnicalException {
+    List<IdentifierType> identifierTypes =
+        List.of(namespaces).stream()
+            .map(
+                namespace -> {
+                  IdentifierType identifierType = new IdentifierType();
+                  identifierType.setNamespace(namespace);
+                  return identifierType;
+                })
+            .toList();
+    when(identifierTypesClient.find(any(PageRequest.class)))
+        .thenAnswer(
+            invocation ->
+                new PageResponse<>(
+                    identifierTypes, invocation.getArgument(0), identifierTypes.size()));
+  }
+
+  @DisplayName("finds namespaces regardless of case, loading them only once")
+  @Test
+  public void findsNamespacesIgnoringCase() throws TechnicalException {
+    assertThat(index.getNamespace("gnd")).isEqualTo("GND");
+    assertThat(index.getNamespace("VIAF")).isEqualTo("viaf");
+    assertThat(index.getNamespace("foo")).isNull();
+
+    verify(identifierTypesClient, times(1)).find(any(PageRequest.class));
+  }
+
+  @DisplayName("reloads the namespaces after being invalidated")
+  @Test
+  public void reloadsAfterInvalidation() throws TechnicalException {
+    assertThat(index.getNamespace("foo")).isNull();
+
+    answer("GND", "viaf", "foo");
+    index.invalidate();
+
+    assertThat(index.getNamespace("FOO")).isEqualTo("foo");
+  }
+
+  @DisplayName("keeps the namespaces if a refresh fails")
+  @Test
+  public void keepsNamespacesOnError() throws TechnicalException {
+    index.getNamespace("gnd");
+    when(identifierTypesClient.find(any(PageRequest.class)))
+        .thenThrow(new TechnicalException("backend down"));
+
+    index.refreshInBackground();
+
+    assertThat(index.getNamespace("gnd")).isEqualTo("GND");
+  }
+
+  @DisplayName("does not keep namespaces of a refresh overtaken by an invalidation")
+  @Test
+  public void discardsRefreshOvertakenByInvalidation() throws TechnicalException {
+    assertThat(index.getNamespace("foo")).isNull();
+    when(identifierTypesClient.find(any(PageRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              // an identifier type is saved while the refresh is loading
+              answer("GND", "viaf", "foo");
+              index.invalidate();
+              return new PageResponse<>(List.of(), invocation.getArgument(0), 0);
+            });
+
+    index.refreshInBackground();
+
+    assertThat(index.getNamespace("FOO")).isEqualTo("foo");
+  }
+}
@@ -6,14 +6,21 @@ import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.security.CudamiUsersClient;
 import de.digitalcollections.model.security.User;
 import io.github.dbmdz.cudami.business.impl.service.security.UserServiceImpl;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.internal.verification.VerificationModeFactory;
 import org.springframework.context.MessageSource;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
 
 public class UserServiceTest {
 
@@ -32,7 +39,9 @@ public class UserServiceTest {
     Mockito.when(messageSource.getMessage(Mockito.any(), Mockito.any(), Mockito.any()))
         .thenReturn("foobar");
     Mockito.when(userRepository.getByEmail("foo@spar.org")).thenReturn(user);
-    service = new UserServiceImpl(null, cudamiClient, messageSource);
+    service =
+        new UserServiceImpl(
+            null, cudamiClient, messageSource, new BCryptPasswordEncoder(), Duration.ofMinutes(1));
   }
 
   @AfterEach
@@ -47,9 +56,63 @@ public class UserServiceTest {
     Mockito.verify(userRepository, VerificationModeFactory.times(1)).getByEmail("foo@spar.org");
   }
 
+  @Test
+  public void testGetByEmailCachedUntilStatusChange() throws Exception {
+    UUID uuid = UUID.randomUUID();
+    user.setUuid(uuid);
+    Mockito.when(userRepository.getByUuid(uuid)).thenReturn(user);
+
+    assertThat(service.getByEmailCached("foo@spar.org")).isSameAs(user);
+    assertThat(service.getByEmailCached("foo@spar.org")).isSameAs(user);
+    Mockito.verify(userRepository, VerificationModeFactory.times(1)).getByEmail("foo@spar.org");
+
+    service.setStatus(uuid, false);
+    service.getByEmailCached("foo@spar.org");
+    Mockito.verify(userRepository, VerificationModeFactory.times(2)).getByEmail("foo@spar.org");
+  }
+
+  @Test
+  public void testActiveAdminUserExistsLatchedUntilStatusChange() throws Exception {
+    UUID uuid = UUID.randomUUID();
+    user.setUuid(uuid);
+    Mockito.when(userRepository.getByUuid(uuid)).thenReturn(user);
+    Mockito.when(userRepository.count()).thenReturn(1L);
+    Mockito.when(userRepository.getActiveAdminUsers()).thenReturn(List.of(user));
+
+    assertThat(service.doesActiveAdminUserExist()).isTrue();
+    assertThat(service.doesActiveAdminUserExist()).isTrue();
+    Mockito.verify(userRepository, VerificationModeFactory.times(1)).getActiveAdminUsers();
+
+    service.setStatus(uuid, false);
+    Mockito.when(userRepository.getActiveAdminUsers()).thenReturn(List.of());
+    assertThat(service.doesActiveAdminUserExist()).isFalse();
+    Mockito.verify(userRepository, VerificationModeFactory.times(2)).getActiveAdminUsers();
+  }
+
   @Test
   public void testGetPasswordHash() throws Exception {
     PasswordEncoder pwEncoder = new BCryptPasswordEncoder();
     assertThat(pwEncoder.matches("foobar", user.getPasswordHash())).isTrue();
   }
+
+  @Test
+  public void testBusyPasswordHashingIsValidationError() throws Exception {
+    PasswordEncoder busyEncoder = Mockito.mock(PasswordEncoder.class);
+    Mockito.when(busyEncoder.encode(Mockito.any()))
+        .thenThrow(new AuthenticationServiceException("Too many passwords waiting to be checked"));
+    UserServiceImpl busyService =
+        new UserServiceImpl(
+            Mockito.mock(Validator.class),
+            cudamiClient,
+            messageSource,
+            busyEncoder,
+            Duration.ofMinutes(1));
+    user.setUuid(UUID.randomUUID());
+    Errors results = new BeanPropertyBindingResult(user, "user");
+
+    busyService.update(user, "secret", "secret", results);
+
+    assertThat(results.getGlobalError().getCode()).isEqualTo("error.password_hashing_busy");
+    Mockito.verify(userRepository, Mockito.never()).update(Mockito.any(), Mockito.any());
+  }
 }
@@ -0,0 +1,65 @@
+package io.github.dbmdz.cudami.business.impl.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("The PooledPasswordEncoder")
+class PooledPasswordEncoderTest {
+
+  private final PooledPasswordEncoder passwordEncoder =
+      new PooledPasswordEncoder(4, 1, 1, Duration.ofSeconds(5));
+
+  @AfterEach
+  public void afterEach() {
+    passwordEncoder.destroy();
+  }
+
+  @DisplayName("hashes and verifies passwords")
+  @Test
+  public void hashesAndVerifies() {
+    String hash = passwordEncoder.encode("secret");
+
+    assertThat(passwordEncoder.matches("secret", hash)).isTrue();
+    assertThat(passwordEncoder.matches("wrong", hash)).isFalse();
+    assertThat(passwordEncoder.upgradeEncoding(hash)).isFalse();
+  }
+
+  @DisplayName("requests rehashing of hashes with another cost factor")
+  @Test
+  public void upgradesOtherCost() {
+    assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")))
+        .isTrue();
+    assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")))
+        .isFalse();
+  }
+
+  @DisplayName("rejects passwords at once if thread and queue are occupied")
+  @Test
+  public void rejectsWhenFull() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    // occupy the only thread and the only place in the queue
+    passwordEncoder.getExecutor().execute(() -> awaitQuietly(release));
+    passwordEncoder.getExecutor().execute(() -> awaitQuietly(release));
+
+    assertThatThrownBy(() -> passwordEncoder.encode("secret"))
+        .isInstanceOf(AuthenticationServiceException.class);
+    assertThat(passwordEncoder.getRejected()).isEqualTo(1);
+    release.countDown();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
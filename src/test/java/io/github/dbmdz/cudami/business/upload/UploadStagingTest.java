@@ -0,0 +1,144 @@
+package io.github.dbmdz.cudami.business.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.dbmdz.cudami.backend.UploadProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("The Upload Staging")
+class UploadStagingTest {
+
+  @TempDir Path directory;
+
+  private UploadProperties properties;
+  private UploadStaging staging;
+
+  @BeforeEach
+  public void beforeEach() {
+    properties = new UploadProperties();
+    properties.setBufferSize(DataSize.ofBytes(4));
+    properties.getStaging().setDirectory(directory);
+    staging = new UploadStaging(properties);
+  }
+
+  @DisplayName("assembles the chunks of an upload")
+  @Test
+  public void assemblesChunks() throws Exception {
+    StagedUpload upload = staging.create("test.txt", "text/plain", 11);
+
+    assertThat(staging.append(upload, 0, stream("hello "))).isEqualTo(6);
+    assertThat(upload.isComplete()).isFalse();
+    assertThat(staging.append(upload, 6, stream("world"))).isEqualTo(11);
+
+    assertThat(upload.isComplete()).isTrue();
+    assertThat(Files.readString(upload.getFile())).isEqualTo("hello world");
+    assertThat(upload.getDigest())
+        .isEqualTo("b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9");
+  }
+
+  @DisplayName("keeps the bytes of an interrupted chunk")
+  @Test
+  public void keepsInterruptedChunk() throws Exception {
+    StagedUpload upload = staging.create("test.txt", "text/plain", 11);
+    InputStream dropping =
+        new InputStream() {
+          private final InputStream bytes = stream("hello ");
+
+          @Override
+          public int read() throws IOException {
+            int read = bytes.read();
+            if (read == -1) {
+              throw new IOException("Connection reset");
+            }
+            return read;
+          }
+        };
+
+    assertThatThrownBy(() -> staging.append(upload, 0, dropping)).isInstanceOf(IOException.class);
+    assertThat(upload.getOffset()).isEqualTo(6);
+    assertThat(staging.append(upload, 6, stream("world"))).isEqualTo(11);
+    assertThat(Files.readString(upload.getFile())).isEqualTo("hello world");
+  }
+
+  @DisplayName("rejects chunks at a wrong offset or beyond the length")
+  @Test
+  public void rejectsInvalidChunks() throws Exception {
+    StagedUpload upload = staging.create("test.txt", "text/plain", 5);
+
+    assertThatThrownBy(() -> staging.append(upload, 3, stream("lo")))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> staging.append(upload, 0, stream("hello world")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("hands out a complete upload only once")
+  @Test
+  public void takesCompleteUploadOnce() throws Exception {
+    StagedUpload upload = staging.create("test.txt", "text/plain", 5);
+    assertThat(staging.take(upload.getId())).isNull();
+
+    staging.append(upload, 0, stream("hello"));
+    assertThat(staging.take(upload.getId())).isSameAs(upload);
+    assertThat(staging.take(upload.getId())).isNull();
+
+    staging.finish(upload);
+    assertThat(upload.getFile()).doesNotExist();
+  }
+
+  @DisplayName("sweeps expired uploads and stale files")
+  @Test
+  public void sweepsExpiredUploads() throws Exception {
+    properties.getStaging().setTtl(Duration.ZERO);
+    staging = new UploadStaging(properties);
+    StagedUpload upload = staging.create("test.txt", "text/plain", 5);
+    Path stale = Files.createFile(directory.resolve("stale.part"));
+    Path other = Files.createFile(directory.resolve("other.txt"));
+
+    staging.sweep();
+
+    assertThat(staging.get(upload.getId())).isNull();
+    assertThat(upload.getFile()).doesNotExist();
+    assertThat(stale).doesNotExist();
+    assertThat(other).exists();
+  }
+
+  @DisplayName("limits the number and total size of staged uploads")
+  @Test
+  public void limitsStagedUploads() throws Exception {
+    properties.getStaging().setMaxUploads(2);
+    properties.getStaging().setMaxSize(DataSize.ofBytes(20));
+    staging = new UploadStaging(properties);
+
+    StagedUpload first = staging.create("first.txt", "text/plain", 10);
+    assertThatThrownBy(() -> staging.create("large.txt", "text/plain", 11))
+        .isInstanceOf(StagingFullException.class);
+    StagedUpload second = staging.create("second.txt", "text/plain", 5);
+    assertThatThrownBy(() -> staging.create("third.txt", "text/plain", 1))
+        .isInstanceOf(StagingFullException.class);
+
+    // room again once an upload is forwarded, but not while it is forwarded
+    staging.append(second, 0, stream("hello"));
+    assertThat(staging.take(second.getId())).isSameAs(second);
+    assertThatThrownBy(() -> staging.create("third.txt", "text/plain", 1))
+        .isInstanceOf(StagingFullException.class);
+    staging.finish(second);
+    assertThat(staging.create("third.txt", "text/plain", 10)).isNotNull();
+    assertThat(first.getOffset()).isZero();
+  }
+
+  private static InputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,41 @@
+package io.github.dbmdz.cudami.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.digitalcollections.model.identifiable.entity.Collection;
+import de.digitalcollections.model.identifiable.entity.digitalobject.DigitalObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The FieldMetadataRegistry")
+class FieldMetadataRegistryTest {
+
+  @DisplayName("knows inherited fields and whether they are localized")
+  @Test
+  public void knowsFields() {
+    assertThat(FieldMetadataRegistry.getField(Collection.class, "label").localized()).isTrue();
+    assertThat(FieldMetadataRegistry.getField(Collection.class, "description").localized())
+        .isTrue();
+    assertThat(FieldMetadataRegistry.getField(DigitalObject.class, "lastModified").localized())
+        .isFalse();
+  }
+
+  @DisplayName("rejects unknown fields")
+  @Test
+  public void rejectsUnknownFields() {
+    assertThatThrownBy(() -> FieldMetadataRegistry.getField(Collection.class, "nonExisting"))
+        .isInstanceOf(UnknownFieldException.class)
+        .hasMessage("Field nonExisting not found in class Collection");
+  }
+
+  @DisplayName("reads the model classes when the list controllers are created")
+  @Test
+  public void registersModelClassesAtStartup() {
+    FieldMetadataRegistry.clear();
+
+    new AbstractPagingAndSortingController(null) {};
+
+    assertThat(FieldMetadataRegistry.MODEL_CLASSES).allMatch(FieldMetadataRegistry::isRegistered);
+  }
+}
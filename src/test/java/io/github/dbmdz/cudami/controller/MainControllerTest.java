@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import de.digitalcollections.cudami.client.CudamiClient;
 import io.github.dbmdz.cudami.business.api.service.security.UserService;
+import io.github.dbmdz.cudami.business.identifier.IdentifierNamespaceIndex;
 import io.github.dbmdz.cudami.propertyeditor.RoleEditor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +24,7 @@ public class MainControllerTest {
   @MockBean private UserDetailsService userDetailsService;
   @MockBean private UserService userService;
   @MockBean private CudamiClient cudamiClient;
+  @MockBean private IdentifierNamespaceIndex identifierNamespaceIndex;
 
   @Test
   public void testNoAdminUserExists() throws Exception {
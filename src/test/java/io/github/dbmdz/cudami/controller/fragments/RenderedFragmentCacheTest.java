@@ -0,0 +1,66 @@
+package io.github.dbmdz.cudami.controller.fragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.github.dbmdz.cudami.controller.fragments.RenderedFragmentCache.RenderedFragment;
+import io.github.dbmdz.cudami.thymeleaf.ThymeleafFixture;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("The Rendered Fragment Cache")
+class RenderedFragmentCacheTest {
+
+  private static final String TEMPLATE = "fragments/forms/multilanguage-label-form";
+
+  private ThymeleafFixture thymeleaf;
+  private RenderedFragmentCache renderedFragments;
+
+  @BeforeEach
+  public void beforeEach() {
+    thymeleaf = new ThymeleafFixture();
+    renderedFragments =
+        new RenderedFragmentCache(
+            thymeleaf.getViewRenderer(), "1.2.3", 100, mock(ObjectProvider.class));
+  }
+
+  private RenderedFragment get(String fieldLanguage, Locale locale) {
+    return renderedFragments.get(
+        TEMPLATE, fieldLanguage, locale, thymeleaf.request(locale), new MockHttpServletResponse());
+  }
+
+  @DisplayName("renders a fragment once per field language and locale")
+  @Test
+  public void rendersOncePerFieldLanguageAndLocale() {
+    RenderedFragment german = get("fr", Locale.GERMAN);
+
+    assertThat(german.html())
+        .contains("id=\"label-fr\"")
+        .contains("name=\"label['fr']\"")
+        .contains("Bezeichnung");
+    assertThat(get("fr", Locale.GERMAN)).isSameAs(german);
+
+    RenderedFragment english = get("fr", Locale.ENGLISH);
+    assertThat(english.html()).contains("Label").doesNotContain("Bezeichnung");
+    assertThat(english.etag()).isNotEqualTo(german.etag());
+    assertThat(get("it", Locale.GERMAN).etag()).isNotEqualTo(german.etag());
+  }
+
+  @DisplayName("keeps the rendered fragment out of the response of the request")
+  @Test
+  public void keepsFragmentOutOfResponse() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    RenderedFragment fragment =
+        renderedFragments.get(
+            TEMPLATE, "fr", Locale.GERMAN, thymeleaf.request(Locale.GERMAN), response);
+
+    assertThat(fragment.html()).contains("id=\"label-fr\"");
+    assertThat(response.getContentAsString()).isEmpty();
+    assertThat(response.getContentType()).isNull();
+  }
+}
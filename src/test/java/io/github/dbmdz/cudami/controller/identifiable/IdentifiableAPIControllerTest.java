@@ -0,0 +1,105 @@
+package io.github.dbmdz.cudami.controller.identifiable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.CudamiIdentifiablesClient;
+import de.digitalcollections.model.identifiable.Identifiable;
+import de.digitalcollections.model.list.paging.PageRequest;
+import de.digitalcollections.model.list.paging.PageResponse;
+import io.github.dbmdz.cudami.backend.BackendCalls;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache;
+import io.github.dbmdz.cudami.model.bootstraptable.BTResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("The Identifiable APIController")
+class IdentifiableAPIControllerTest {
+
+  private static final Identifiable BY_ID = Identifiable.builder().label("by id").build();
+  private static final Identifiable BY_LABEL = Identifiable.builder().label("by label").build();
+
+  private CudamiIdentifiablesClient identifiablesClient;
+  private BackendCalls backendCalls;
+  private MeterRegistry meterRegistry;
+  private IdentifiableAPIController controller;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    CudamiClient cudamiClient = mock(CudamiClient.class);
+    identifiablesClient = mock(CudamiIdentifiablesClient.class);
+    when(cudamiClient.forIdentifiables()).thenReturn(identifiablesClient);
+    backendCalls = new BackendCalls(Executors.newFixedThreadPool(2), Duration.ofSeconds(5));
+    meterRegistry = new SimpleMeterRegistry();
+    ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    controller =
+        new IdentifiableAPIController(
+            cudamiClient,
+            backendCalls,
+            meterRegistryProvider,
+            new IdentifiableResolutionCache(100, Duration.ofMinutes(1), meterRegistryProvider),
+            true);
+  }
+
+  @AfterEach
+  public void afterEach() {
+    backendCalls.close();
+  }
+
+  private void answer(List<Identifiable> byId, List<Identifiable> byLabel) throws Exception {
+    when(identifiablesClient.find(any(PageRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              PageRequest request = invocation.getArgument(0);
+              boolean idSearch =
+                  request.getFiltering().getFilterCriterionFor("identifiers.id") != null;
+              return PageResponse.builder().withContent(idSearch ? byId : byLabel).build();
+            });
+  }
+
+  @DisplayName("prefers hits by identifier")
+  @Test
+  public void prefersIdentifierHits() throws Exception {
+    answer(List.of(BY_ID), List.of(BY_LABEL));
+
+    BTResponse<Identifiable> response = controller.find(0, 10, "foo").call();
+
+    assertThat(response.getRows()).containsExactly(BY_ID);
+    assertThat(
+            meterRegistry
+                .get(IdentifiableAPIController.QUERY_METRIC)
+                .tags("branch", "identifier", "outcome", "hit")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @DisplayName("falls back to hits by label")
+  @Test
+  public void fallsBackToLabelHits() throws Exception {
+    answer(List.of(), List.of(BY_LABEL));
+
+    BTResponse<Identifiable> response = controller.find(0, 10, "foo").call();
+
+    assertThat(response.getRows()).containsExactly(BY_LABEL);
+    assertThat(
+            meterRegistry
+                .get(IdentifiableAPIController.QUERY_METRIC)
+                .tags("branch", "label", "outcome", "hit")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+}
@@ -0,0 +1,89 @@
+package io.github.dbmdz.cudami.controller.identifiable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.CudamiIdentifiablesClient;
+import de.digitalcollections.model.exception.ResourceNotFoundException;
+import de.digitalcollections.model.identifiable.IdentifiableObjectType;
+import de.digitalcollections.model.identifiable.Identifier;
+import de.digitalcollections.model.identifiable.entity.HeadwordEntry;
+import de.digitalcollections.model.identifiable.entity.work.Work;
+import io.github.dbmdz.cudami.business.headword.HeadwordEntryIndex;
+import io.github.dbmdz.cudami.business.i18n.LanguageService;
+import io.github.dbmdz.cudami.business.identifier.IdentifiableResolutionCache;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.commons.codec.binary.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.ui.ExtendedModelMap;
+
+@DisplayName("The Identifiable Controller")
+class IdentifiableControllerTest {
+
+  private static final UUID UUID_WORK = UUID.randomUUID();
+
+  private CudamiIdentifiablesClient identifiablesClient;
+  private IdentifiableController controller;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    CudamiClient cudamiClient = mock(CudamiClient.class);
+    identifiablesClient = mock(CudamiIdentifiablesClient.class);
+    when(cudamiClient.forIdentifiables()).thenReturn(identifiablesClient);
+
+    Work work = new Work();
+    work.setUuid(UUID_WORK);
+    work.setIdentifiableObjectType(IdentifiableObjectType.WORK);
+    Identifier identifier = new Identifier();
+    identifier.setNamespace("gnd");
+    identifier.setId("4711");
+    work.setIdentifiers(Set.of(identifier));
+    when(identifiablesClient.getByIdentifier("gnd", "4711")).thenReturn(work);
+
+    controller =
+        new IdentifiableController(
+            cudamiClient,
+            mock(LanguageService.class),
+            new IdentifiableResolutionCache(100, Duration.ofMinutes(1), mock(ObjectProvider.class)),
+            mock(HeadwordEntryIndex.class));
+  }
+
+  @DisplayName("resolves a known identifier without fetching the identifiable again")
+  @Test
+  public void resolvesKnownIdentifier() throws Exception {
+    String expected = "redirect:/works/" + UUID_WORK;
+    String base64 = Base64.encodeBase64URLSafeString("gnd:4711".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(controller.view("gnd", "4711", new ExtendedModelMap())).isEqualTo(expected);
+    assertThat(controller.viewBase64Encoded(base64, new ExtendedModelMap())).isEqualTo(expected);
+    assertThat(controller.view(UUID_WORK, new ExtendedModelMap())).isEqualTo(expected);
+
+    verify(identifiablesClient, times(1)).getByIdentifier(any(), any());
+    verify(identifiablesClient, never()).getByUuid(any());
+  }
+
+  @DisplayName("answers 404 for a headword entry without headword")
+  @Test
+  public void headwordEntryWithoutHeadwordIsNotFound() throws Exception {
+    HeadwordEntry headwordEntry = new HeadwordEntry();
+    headwordEntry.setUuid(UUID.randomUUID());
+    headwordEntry.setIdentifiableObjectType(IdentifiableObjectType.HEADWORD_ENTRY);
+    when(identifiablesClient.getByUuid(headwordEntry.getUuid())).thenReturn(headwordEntry);
+
+    assertThatThrownBy(() -> controller.view(headwordEntry.getUuid(), new ExtendedModelMap()))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+}
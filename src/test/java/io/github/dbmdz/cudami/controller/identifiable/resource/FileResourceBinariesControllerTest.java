@@ -0,0 +1,136 @@
+package io.github.dbmdz.cudami.controller.identifiable.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.resource.CudamiFileResourcesMetadataClient;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.github.dbmdz.cudami.business.binary.BinaryProperties;
+import io.github.dbmdz.cudami.business.binary.FileResourceBinaries;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@DisplayName("The FileResource Binaries Controller")
+class FileResourceBinariesControllerTest {
+
+  private static final UUID UUID_FILE = UUID.randomUUID();
+
+  @TempDir Path directory;
+
+  private CudamiClient cudamiClient;
+  private FileResource fileResource;
+  private FileResourceBinariesController controller;
+
+  @BeforeEach
+  public void beforeEach() throws Exception {
+    Path file = Files.writeString(directory.resolve("binary.txt"), "0123456789");
+    fileResource = new FileResource();
+    fileResource.setUuid(UUID_FILE);
+    fileResource.setFilename("binary.txt");
+    fileResource.setUri(file.toUri());
+    fileResource.setLastModified(LocalDateTime.of(2024, 1, 1, 12, 0));
+
+    cudamiClient = mock(CudamiClient.class);
+    CudamiFileResourcesMetadataClient metadataClient =
+        mock(CudamiFileResourcesMetadataClient.class);
+    when(cudamiClient.forFileResourcesMetadata()).thenReturn(metadataClient);
+    when(metadataClient.getByUuid(UUID_FILE)).thenReturn(fileResource);
+
+    BinaryProperties properties = new BinaryProperties();
+    properties.setLocalFiles(true);
+    controller =
+        new FileResourceBinariesController(
+            cudamiClient, new FileResourceBinaries(properties, mock(ObjectProvider.class)));
+  }
+
+  @DisplayName("answers a range request with the part requested")
+  @Test
+  public void servesRange() throws Exception {
+    MockHttpServletRequest request = request();
+    request.addHeader("Range", "bytes=2-5");
+
+    MockHttpServletResponse response = get(request);
+
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+    assertThat(response.getContentAsString()).isEqualTo("2345");
+  }
+
+  @DisplayName("hands the whole file to the connector if it can send files")
+  @Test
+  public void usesSendfile() throws Exception {
+    MockHttpServletRequest request = request();
+    request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+    MockHttpServletResponse response = get(request);
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentLengthLong()).isEqualTo(10);
+    assertThat(response.getContentAsByteArray()).isEmpty();
+    assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+  }
+
+  @DisplayName("answers a request for an unchanged binary with 304")
+  @Test
+  public void answersNotModified() throws Exception {
+    String etag = get(request()).getHeader("ETag");
+    MockHttpServletRequest request = request();
+    request.addHeader("If-None-Match", etag);
+
+    MockHttpServletResponse response = get(request);
+
+    assertThat(response.getStatus()).isEqualTo(304);
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @DisplayName("proxies a binary whose cached copy was deleted since it was looked up")
+  @Test
+  public void proxiesEvictedCopy() throws Exception {
+    FileResourceBinaries binaries = mock(FileResourceBinaries.class);
+    when(binaries.getLocalFile(fileResource)).thenReturn(directory.resolve("evicted"));
+    when(binaries.isProxied(fileResource)).thenReturn(true);
+    HttpResponse<InputStream> upstream = mock(HttpResponse.class);
+    when(upstream.statusCode()).thenReturn(200);
+    when(upstream.headers())
+        .thenReturn(HttpHeaders.of(Map.of("Content-Length", List.of("10")), (k, v) -> true));
+    when(upstream.body())
+        .thenReturn(new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.UTF_8)));
+    when(binaries.open(fileResource, null, false)).thenReturn(upstream);
+    controller = new FileResourceBinariesController(cudamiClient, binaries);
+
+    MockHttpServletResponse response = get(request());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentAsString()).isEqualTo("0123456789");
+  }
+
+  private MockHttpServletRequest request() {
+    return new MockHttpServletRequest("GET", "/fileresources/" + UUID_FILE + "/binary");
+  }
+
+  private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    controller.binary(
+        UUID_FILE, false, new ServletWebRequest(request, response), request, response);
+    return response;
+  }
+}
@@ -0,0 +1,142 @@
+package io.github.dbmdz.cudami.controller.identifiable.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.cudami.client.identifiable.resource.CudamiFileResourcesMetadataClient;
+import de.digitalcollections.model.exception.TechnicalException;
+import de.digitalcollections.model.identifiable.resource.FileResource;
+import io.github.dbmdz.cudami.backend.BackendTimeoutException;
+import io.github.dbmdz.cudami.backend.FileResourceUploadClient;
+import io.github.dbmdz.cudami.backend.UploadProperties;
+import io.github.dbmdz.cudami.business.upload.UploadDigestIndex;
+import io.github.dbmdz.cudami.controller.identifiable.resource.FileResourcesBinaryController.UploadResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("The FileResources Binary Controller")
+class FileResourcesBinaryControllerTest {
+
+  private static final String BOUNDARY = "----boundary";
+
+  @TempDir Path directory;
+
+  private FileResourceUploadClient uploadClient;
+  private CudamiFileResourcesMetadataClient metadataClient;
+  private ExecutorService executor;
+  private UploadProperties properties;
+  private FileResourcesBinaryController controller;
+
+  @BeforeEach
+  public void beforeEach() {
+    uploadClient = mock(FileResourceUploadClient.class);
+    CudamiClient cudamiClient = mock(CudamiClient.class);
+    metadataClient = mock(CudamiFileResourcesMetadataClient.class);
+    when(cudamiClient.forFileResourcesMetadata()).thenReturn(metadataClient);
+    executor = Executors.newFixedThreadPool(2);
+    properties = new UploadProperties();
+    properties.setParallelism(2);
+    properties.setMaxFileSize(DataSize.ofBytes(10));
+    properties.getStaging().setDirectory(directory);
+    controller =
+        new FileResourcesBinaryController(
+            uploadClient,
+            new UploadDigestIndex(
+                cudamiClient, true, 100, Duration.ofMinutes(1), mock(ObjectProvider.class)),
+            properties,
+            executor);
+  }
+
+  @AfterEach
+  public void afterEach() {
+    executor.shutdownNow();
+  }
+
+  @DisplayName("forwards every file of a multi-file upload and reports each result")
+  @Test
+  public void uploadsBatch() throws Exception {
+    FileResource first = new FileResource();
+    first.setFilename("a.txt");
+    when(uploadClient.upload(any(Path.class), eq("a.txt"), eq("text/plain"))).thenReturn(first);
+    when(uploadClient.upload(any(Path.class), eq("b.txt"), eq("text/plain")))
+        .thenThrow(new TechnicalException("backend down"));
+
+    List<UploadResult> results =
+        controller.uploadBatch(
+            multipart(part("a.txt", "aaa"), part("b.txt", "bbb"), part("c.txt", "far too long")));
+
+    assertThat(results)
+        .extracting(UploadResult::filename, UploadResult::status)
+        .containsExactly(tuple("a.txt", 200), tuple("b.txt", 502), tuple("c.txt", 413));
+    assertThat(results.get(0).fileResource()).isSameAs(first);
+    try (var spooled = Files.list(directory)) {
+      assertThat(spooled).isEmpty();
+    }
+  }
+
+  @DisplayName("does not send an identical binary again")
+  @Test
+  public void deduplicatesBinaries() throws Exception {
+    properties.setParallelism(1);
+    FileResource fileResource = new FileResource();
+    fileResource.setUuid(UUID.randomUUID());
+    when(uploadClient.upload(any(Path.class), any(), any())).thenReturn(fileResource);
+    when(metadataClient.getByUuid(fileResource.getUuid())).thenReturn(fileResource);
+
+    List<UploadResult> results =
+        controller.uploadBatch(multipart(part("a.txt", "same"), part("b.txt", "same")));
+
+    assertThat(results).extracting(UploadResult::fileResource).containsOnly(fileResource);
+    verify(uploadClient, times(1)).upload(any(Path.class), any(), any());
+  }
+
+  @DisplayName("reports a backend that does not accept a file in time")
+  @Test
+  public void reportsBackendTimeout() throws Exception {
+    when(uploadClient.upload(any(Path.class), any(), any()))
+        .thenThrow(new BackendTimeoutException("Backend did not accept upload in time", null));
+
+    List<UploadResult> results = controller.uploadBatch(multipart(part("a.txt", "aaa")));
+
+    assertThat(results).extracting(UploadResult::status).containsExactly(504);
+  }
+
+  private static String part(String filename, String content) {
+    return "--"
+        + BOUNDARY
+        + "\r\nContent-Disposition: form-data; name=\"files\"; filename=\""
+        + filename
+        + "\"\r\nContent-Type: text/plain\r\n\r\n"
+        + content
+        + "\r\n";
+  }
+
+  private static MockHttpServletRequest multipart(String... parts) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files");
+    request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+    request.setContent(
+        (String.join("", parts) + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+}
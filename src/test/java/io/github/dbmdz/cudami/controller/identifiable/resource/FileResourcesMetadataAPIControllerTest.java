@@ -5,7 +5,6 @@ import static org.mockito.Mockito.*;
 
 import de.digitalcollections.cudami.client.CudamiClient;
 import de.digitalcollections.cudami.client.identifiable.resource.CudamiFileResourcesMetadataClient;
-import de.digitalcollections.model.exception.TechnicalException;
 import de.digitalcollections.model.list.filtering.FilterCriterion;
 import de.digitalcollections.model.list.filtering.FilterLogicalOperator;
 import de.digitalcollections.model.list.filtering.FilterOperation;
@@ -35,7 +34,7 @@ class FileResourcesMetadataAPIControllerTest {
 
   @DisplayName("transforms the searchTerm into a filtering")
   @Test
-  public void transformSearchTermIntoFiltering() throws TechnicalException {
+  public void transformSearchTermIntoFiltering() throws Exception {
     ArgumentCaptor<PageRequest> pageRequestArgumentCaptor =
         ArgumentCaptor.forClass(PageRequest.class);
 
@@ -56,7 +55,7 @@ class FileResourcesMetadataAPIControllerTest {
             .build();
     expectedPageRequest.setFiltering(filtering);
 
-    controller.findByType("image", 0, 11, "foo", null);
+    controller.findByType("image", 0, 11, "foo", null).call();
 
     verify(cudamiFileResourcesMetadataClient, times(1))
         .findByType(pageRequestArgumentCaptor.capture(), eq("image"));
@@ -0,0 +1,155 @@
+package io.github.dbmdz.cudami.model.bootstraptable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import de.digitalcollections.cudami.client.CudamiClient;
+import de.digitalcollections.model.identifiable.entity.digitalobject.DigitalObject;
+import de.digitalcollections.model.jackson.DigitalCollectionsObjectMapper;
+import de.digitalcollections.model.list.paging.PageResponse;
+import de.digitalcollections.model.list.sorting.Direction;
+import de.digitalcollections.model.list.sorting.NullHandling;
+import de.digitalcollections.model.text.LocalizedText;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The BTRequest")
+class BTRequestTest {
+
+  private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+  private static DigitalObject digitalObject(UUID uuid, String label) {
+    return DigitalObject.builder()
+        .uuid(uuid)
+        .label(new LocalizedText(Locale.GERMAN, label))
+        .build();
+  }
+
+  private static BTRequest request(int offset, String order) {
+    return new BTRequest(offset, 2, BTRequest.createSorting("label", order, "de"));
+  }
+
+  private static CudamiClient client() {
+    return new CudamiClient(
+        HttpClient.newHttpClient(), "http://localhost", new DigitalCollectionsObjectMapper());
+  }
+
+  /** The filtering as sent to the backend. */
+  private static String filterParams(BTRequest request) {
+    return URLDecoder.decode(
+        client().forDigitalObjects().getFilterParamsAsString(request.getFiltering()),
+        StandardCharsets.UTF_8);
+  }
+
+  /** The sorting as sent to the backend. */
+  private static String sortParams(BTRequest request) {
+    return URLDecoder.decode(
+        client().forDigitalObjects().getSortParams(request), StandardCharsets.UTF_8);
+  }
+
+  @DisplayName("requests the page after a cursor by a filter on sort key and uuid")
+  @Test
+  public void seeksAfterCursor() {
+    BTRequest request = request(1000, "asc");
+    request.seek(new BTCursor("label.de", Direction.ASC, "Faust", FIRST));
+
+    assertThat(request.getPageNumber()).isZero();
+    assertThat(request.getSorting().getOrders())
+        .extracting(o -> o.getProperty(), o -> o.getDirection())
+        .containsExactly(tuple("label", Direction.ASC), tuple("uuid", Direction.ASC));
+    assertThat(filterParams(request))
+        .contains("label.de:gte_notset:Faust")
+        .contains("{$OR;label.de:gt_notset:Faust;uuid:gt:" + FIRST + "}");
+  }
+
+  @DisplayName("keeps rows without sort key after every cursor")
+  @Test
+  public void includesRowsWithoutSortKey() {
+    for (String order : List.of("asc", "desc")) {
+      BTRequest request = request(2, order);
+      request.seek(new BTCursor("label.de", Direction.fromString(order), "Faust", FIRST));
+
+      assertThat(request.getSorting().getOrders().get(0).getNullHandling())
+          .as(order)
+          .isEqualTo(NullHandling.NULLS_LAST);
+      assertThat(sortParams(request)).as(order).contains("nullslast");
+      // both criteria on the sort key are fulfilled by rows without sort key
+      assertThat(request.getFiltering().getFilterCriteriaList())
+          .flatExtracting(c -> c)
+          .filteredOn(c -> c.getExpression().equals("label.de"))
+          .extracting(c -> c.getOperation().toString())
+          .as(order)
+          .allMatch(operation -> operation.endsWith("_notset"))
+          .hasSize(2);
+    }
+  }
+
+  @DisplayName("seeks descending orders backwards")
+  @Test
+  public void seeksDescending() {
+    BTRequest request = request(2, "desc");
+    request.seek(new BTCursor("label.de", Direction.DESC, "Faust", FIRST));
+
+    assertThat(request.getFiltering().getFilterCriteriaList())
+        .flatExtracting(c -> c)
+        .extracting(c -> c.getOperation().toString())
+        .containsExactlyInAnyOrder("lte_notset", "lt_notset", "lt");
+  }
+
+  @DisplayName("rejects cursors of another sorting")
+  @Test
+  public void rejectsOtherSorting() {
+    BTRequest request = request(2, "desc");
+    BTCursor cursor = new BTCursor("label.en", Direction.DESC, "Faust", FIRST);
+
+    assertThatThrownBy(() -> request.seek(cursor)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BTCursor.decode("no cursor"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("answers with the cursor of the following page")
+  @Test
+  public void answersWithCursor() {
+    BTRequest request = request(2, "asc");
+    BTCursor cursor = new BTCursor("label.de", Direction.ASC, "A", FIRST);
+    request.seek(BTCursor.decode(cursor.encode()));
+    PageResponse<DigitalObject> pageResponse =
+        PageResponse.builder()
+            .withContent(List.of(digitalObject(FIRST, "B"), digitalObject(SECOND, "C\nD")))
+            .withTotalElements(5)
+            .build();
+
+    BTResponse<DigitalObject> response = new BTResponse<>(pageResponse, request);
+
+    // rows before the cursor are not counted by the backend
+    assertThat(response.getTotal()).isEqualTo(7);
+    assertThat(response.getOffset()).isEqualTo(2);
+    assertThat(BTCursor.decode(response.getCursor()))
+        .isEqualTo(new BTCursor("label.de", Direction.ASC, "C\nD", SECOND));
+  }
+
+  @DisplayName("answers without cursor on the last page or without cursor mode")
+  @Test
+  public void answersWithoutCursor() {
+    PageResponse<DigitalObject> pageResponse =
+        PageResponse.builder()
+            .withContent(List.of(digitalObject(FIRST, "B"), digitalObject(SECOND, "C")))
+            .withTotalElements(4)
+            .build();
+    BTRequest lastPage = request(2, "asc");
+    lastPage.seek(null);
+
+    assertThat(new BTResponse<>(pageResponse, lastPage).getCursor()).isNull();
+    BTResponse<DigitalObject> offsetPaging = new BTResponse<>(pageResponse, request(0, "asc"));
+    assertThat(offsetPaging.getCursor()).isNull();
+    assertThat(offsetPaging.getOffset()).isNull();
+  }
+}
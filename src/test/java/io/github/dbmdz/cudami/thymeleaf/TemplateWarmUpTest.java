@@ -0,0 +1,45 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+@DisplayName("The Template Warm-Up")
+class TemplateWarmUpTest {
+
+  private TemplateWarmUp warmUp;
+
+  @BeforeEach
+  public void beforeEach() {
+    ThymeleafFixture thymeleaf = new ThymeleafFixture();
+    warmUp =
+        new TemplateWarmUp(
+            thymeleaf.getTemplateEngine(),
+            thymeleaf.getViewRenderer(),
+            new PathMatchingResourcePatternResolver(),
+            true,
+            true,
+            1,
+            Locale.ENGLISH,
+            "1.2.3");
+  }
+
+  @DisplayName("finds all templates and renders the list pages")
+  @Test
+  public void rendersListPages() throws Exception {
+    List<String> templates = warmUp.findTemplates();
+    assertThat(templates)
+        .contains("base", "collections/list", "fragments/forms/multilanguage-teaser");
+
+    List<String> listPages = templates.stream().filter(t -> t.endsWith("/list")).toList();
+    assertThat(listPages).isNotEmpty();
+    for (String listPage : listPages) {
+      assertThat(warmUp.render(listPage)).as(listPage).isTrue();
+    }
+  }
+}
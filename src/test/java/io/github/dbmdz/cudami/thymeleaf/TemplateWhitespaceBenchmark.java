@@ -0,0 +1,164 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.StringUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.dialect.AbstractDialect;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.model.IAttribute;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.model.IText;
+import org.thymeleaf.processor.AbstractProcessor;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.processor.element.IElementTagProcessor;
+import org.thymeleaf.processor.element.IElementTagStructureHandler;
+import org.thymeleaf.processor.element.MatchingAttributeName;
+import org.thymeleaf.processor.element.MatchingElementName;
+import org.thymeleaf.processor.text.AbstractTextProcessor;
+import org.thymeleaf.processor.text.ITextStructureHandler;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * Rendering of cached templates with their whitespace normalized on every rendering, by processors
+ * matching every element and text (as the former "SpacesDialect" did), or once when they are parsed
+ * ({@link WhitespaceNormalizingTemplateResolver}).
+ *
+ * <p>Only the whitespace handling is compared: the templates are rendered without any other
+ * dialect, i.e. their th:* attributes are left as they are.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.dbmdz.cudami.thymeleaf.TemplateWhitespaceBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateWhitespaceBenchmark {
+
+  @Param({"collections/view", "fragments/bootstrap-table"})
+  private String template;
+
+  private TemplateEngine perRendering;
+  private TemplateEngine whenParsed;
+
+  @Setup
+  public void setup() {
+    perRendering = new TemplateEngine();
+    perRendering.setTemplateResolver(templateResolver());
+    perRendering.setDialect(new PerRenderingSpacesDialect());
+
+    whenParsed = new TemplateEngine();
+    whenParsed.setTemplateResolver(new WhitespaceNormalizingTemplateResolver(templateResolver()));
+    whenParsed.setDialect(new AbstractDialect("none") {});
+  }
+
+  @Benchmark
+  public String perRendering() {
+    return perRendering.process(template, new Context());
+  }
+
+  @Benchmark
+  public String whenParsed() {
+    return whenParsed.process(template, new Context());
+  }
+
+  static ClassLoaderTemplateResolver templateResolver() {
+    ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+    templateResolver.setPrefix("templates/");
+    templateResolver.setSuffix(".html");
+    templateResolver.setTemplateMode(TemplateMode.HTML);
+    templateResolver.setCharacterEncoding("UTF-8");
+    templateResolver.setCacheable(true);
+    return templateResolver;
+  }
+
+  /** The whitespace normalization as it was done before, on every rendering. */
+  static class PerRenderingSpacesDialect extends AbstractProcessorDialect {
+
+    PerRenderingSpacesDialect() {
+      super("spaces", "spaces", 100000);
+    }
+
+    @Override
+    public Set<IProcessor> getProcessors(String dialectPrefix) {
+      return Set.of(new EmptyTextProcessor(), new AttributesInnerWhitespacesProcessor());
+    }
+  }
+
+  static class EmptyTextProcessor extends AbstractTextProcessor {
+
+    EmptyTextProcessor() {
+      super(TemplateMode.HTML, 100000);
+    }
+
+    @Override
+    public void doProcess(
+        ITemplateContext context, IText text, ITextStructureHandler structureHandler) {
+      if (!StringUtils.hasText(text.getText())) {
+        structureHandler.removeText();
+      }
+    }
+  }
+
+  static class AttributesInnerWhitespacesProcessor extends AbstractProcessor
+      implements IElementTagProcessor {
+
+    AttributesInnerWhitespacesProcessor() {
+      super(TemplateMode.HTML, 100000);
+    }
+
+    @Override
+    public void process(
+        ITemplateContext context,
+        IProcessableElementTag tag,
+        IElementTagStructureHandler structureHandler) {
+      IAttribute[] attributes = tag.getAllAttributes();
+      for (int i = attributes.length - 1; i >= 0; --i) {
+        structureHandler.removeAttribute(attributes[i].getAttributeDefinition().getAttributeName());
+      }
+      for (IAttribute attribute : attributes) {
+        structureHandler.replaceAttribute(
+            attribute.getAttributeDefinition().getAttributeName(),
+            attribute.getAttributeCompleteName(),
+            attribute.getValue(),
+            attribute.getValueQuotes());
+      }
+    }
+
+    @Override
+    public MatchingElementName getMatchingElementName() {
+      return MatchingElementName.forAllElements(getTemplateMode());
+    }
+
+    @Override
+    public MatchingAttributeName getMatchingAttributeName() {
+      return MatchingAttributeName.forAllAttributes(getTemplateMode());
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(TemplateWhitespaceBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
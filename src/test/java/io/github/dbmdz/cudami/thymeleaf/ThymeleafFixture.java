@@ -0,0 +1,77 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import com.github.mxab.thymeleaf.extras.dataattribute.dialect.DataAttributeDialect;
+import java.util.Locale;
+import nz.net.ultraq.thymeleaf.layoutdialect.LayoutDialect;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.thymeleaf.extras.springsecurity5.dialect.SpringSecurityDialect;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * Template engine and view resolver for the templates of the webapp, configured like the
+ * application, with a mock servlet context.
+ */
+public class ThymeleafFixture {
+
+  private final MockServletContext servletContext = new MockServletContext();
+  private final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+  private final ThymeleafViewResolver viewResolver = new ThymeleafViewResolver();
+
+  public ThymeleafFixture() {
+    StaticWebApplicationContext applicationContext = new StaticWebApplicationContext();
+    applicationContext.setServletContext(servletContext);
+    applicationContext.refresh();
+    servletContext.setAttribute(
+        WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+
+    ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+    templateResolver.setPrefix("templates/");
+    templateResolver.setSuffix(".html");
+    templateResolver.setTemplateMode(TemplateMode.HTML);
+    templateResolver.setCharacterEncoding("UTF-8");
+    ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+    messageSource.setBasename("messages");
+    messageSource.setDefaultEncoding("UTF-8");
+    messageSource.setFallbackToSystemLocale(false);
+    templateEngine.setTemplateResolver(templateResolver);
+    templateEngine.setTemplateEngineMessageSource(messageSource);
+    templateEngine.addDialect(new LayoutDialect());
+    templateEngine.addDialect(new DataAttributeDialect());
+    templateEngine.addDialect(new SpringSecurityDialect());
+    viewResolver.setTemplateEngine(templateEngine);
+    viewResolver.setApplicationContext(applicationContext);
+  }
+
+  /**
+   * @param locale locale of the user interface
+   * @return a request of the servlet context, preferring the locale
+   */
+  public MockHttpServletRequest request(Locale locale) {
+    MockHttpServletRequest request = new MockHttpServletRequest(servletContext);
+    request.addPreferredLocale(locale);
+    return request;
+  }
+
+  public MockServletContext getServletContext() {
+    return servletContext;
+  }
+
+  public SpringTemplateEngine getTemplateEngine() {
+    return templateEngine;
+  }
+
+  public ViewRenderer getViewRenderer() {
+    return new ViewRenderer(viewResolver, servletContext);
+  }
+
+  public ThymeleafViewResolver getViewResolver() {
+    return viewResolver;
+  }
+}
@@ -0,0 +1,36 @@
+package io.github.dbmdz.cudami.thymeleaf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The Whitespace Normalizer")
+class WhitespaceNormalizerTest {
+
+  @DisplayName("removes whitespace-only text and keeps other text as it is")
+  @Test
+  public void removesWhitespaceOnlyText() {
+    assertThat(WhitespaceNormalizer.normalize("<div>\n  <span> a  b </span>\n</div>\n"))
+        .isEqualTo("<div><span> a  b </span></div>");
+  }
+
+  @DisplayName("reduces whitespace between attributes, but not inside of their values")
+  @Test
+  public void reducesWhitespaceInTags() {
+    assertThat(
+            WhitespaceNormalizer.normalize(
+                "<a\n    href=\"/x\"\n    th:title=\"${a  +\n b}\"\n  >x</a\n>"))
+        .isEqualTo("<a href=\"/x\" th:title=\"${a  +\n b}\">x</a>");
+  }
+
+  @DisplayName("keeps comments, doctypes, scripts and styles as they are")
+  @Test
+  public void keepsRawContent() {
+    String html =
+        "<!DOCTYPE html>\n<!-- a  <b>  -->\n<script>\n  if (a <b) {}\n</script><style> p > a {} </style>";
+    assertThat(WhitespaceNormalizer.normalize(html))
+        .isEqualTo(
+            "<!DOCTYPE html><!-- a  <b>  --><script>\n  if (a <b) {}\n</script><style> p > a {} </style>");
+  }
+}
@@ -8,11 +8,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 
 /**
  * see https://docs.spring.io/spring-boot/docs/current/reference/html/boot-features-testing.html
@@ -33,6 +36,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 public class UserControllerTest {
 
   @Autowired private TestRestTemplate testRestTemplate;
+  @Autowired private ResourceUrlProvider resourceUrlProvider;
 
   @Test
   public void resourceRequest() {
@@ -40,6 +44,34 @@ public class UserControllerTest {
     assertThat(body.contains("font-family")).isTrue();
   }
 
+  @Test
+  public void versionedResourceRequest() {
+    ResponseEntity<String> unversioned =
+        this.testRestTemplate.getForEntity("/css/main.css", String.class);
+    assertThat(unversioned.getHeaders().getCacheControl()).contains("no-cache");
+
+    String url = resourceUrlProvider.getForLookupPath("/css/main.css");
+    assertThat(url).matches("/css/main-[0-9a-f]{32}\\.css");
+    ResponseEntity<String> versioned = this.testRestTemplate.getForEntity(url, String.class);
+    assertThat(versioned.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(versioned.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL))
+        .contains("max-age=31536000")
+        .contains("immutable");
+    assertThat(versioned.getBody()).isEqualTo(unversioned.getBody());
+  }
+
+  @Test
+  public void uploadsRequireAuthentication() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("Tus-Resumable", "1.0.0");
+    headers.set("Upload-Length", "5");
+    ResponseEntity<String> response =
+        this.testRestTemplate.postForEntity(
+            "/api/uploads", new HttpEntity<>(headers), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+    assertThat(response.getHeaders().getLocation()).hasPath("/login");
+  }
+
   // see
   // https://docs.spring.io/spring-security/site/docs/5.0.5.RELEASE/reference/htmlsingle/#test-method-withmockuser
   @Test